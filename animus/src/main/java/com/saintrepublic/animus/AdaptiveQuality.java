@@ -0,0 +1,193 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.animation.AlphaAnimation;
+import android.view.animation.Animation;
+import android.view.animation.AnticipateOvershootInterpolator;
+import android.view.animation.BounceInterpolator;
+import android.view.animation.Interpolator;
+import android.view.animation.ScaleAnimation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures frame pressure and degrades animations of adaptive Animus instances while the app janks.
+ * Frames are watched only while adaptive animations are created and a short time after,
+ * the share of frames longer than 1.5 frame intervals is smoothed over the recent frames.
+ * Animations can be created on any thread, frames are watched on the main thread.
+ */
+final class AdaptiveQuality implements Choreographer.FrameCallback, Runnable {
+
+    static final int PRESSURE_NONE = 0;
+    static final int PRESSURE_MODERATE = 1;
+    static final int PRESSURE_HEAVY = 2;
+
+    // Smoothed share of janky frames starting each pressure level
+    private static final float MODERATE_JANK = 0.2f;
+    private static final float HEAVY_JANK = 0.5f;
+    // Weight of the newest frame in the smoothed share
+    private static final float SMOOTHING = 0.1f;
+    // Frames are watched this long after the last adaptive animation should end
+    private static final long LINGER_NANOS = 1000000000L;
+    // Measurement older than this doesn't describe the current state
+    private static final long STALE_NANOS = 2000000000L;
+
+    private static final AdaptiveQuality instance = new AdaptiveQuality();
+
+    private static final AtomicLong shortenedCount = new AtomicLong();
+    private static final AtomicLong simplifiedCount = new AtomicLong();
+    private static final AtomicLong skippedCount = new AtomicLong();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private volatile float jank;
+    private volatile long sampledNanos;
+    private volatile long watchUntilNanos;
+
+    // Touched only on the main thread
+    private boolean scheduled;
+    private long lastFrameNanos;
+
+    private AdaptiveQuality() {}
+
+    /**
+     * Apply the policies to the animation if frames are under pressure.
+     * Decorative alpha and scale animations are skipped under heavy pressure only:
+     * duration 0 shows their end on the first frame
+     *
+     * @param policies Animus.Quality policy flags
+     * @param durationScale Multiplier of shortened durations
+     * @return The animation
+     */
+    static <T extends Animation> T degrade(T animation, int policies, float durationScale) {
+        if (policies == 0) {
+            return animation;
+        }
+        long duration = animation.getDuration();
+        instance.watch(duration);
+
+        int pressure = getPressure();
+        if (pressure == PRESSURE_NONE) {
+            return animation;
+        }
+        if (pressure == PRESSURE_HEAVY && (policies & Animus.Quality.SKIP_DECORATIVE) != 0
+                && (animation instanceof AlphaAnimation || animation instanceof ScaleAnimation)) {
+            animation.setDuration(0);
+            skippedCount.incrementAndGet();
+            return animation;
+        }
+        if ((policies & Animus.Quality.SHORTEN_DURATIONS) != 0 && duration > 0) {
+            animation.setDuration((long) (duration * durationScale));
+            shortenedCount.incrementAndGet();
+        }
+        if ((policies & Animus.Quality.SIMPLE_INTERPOLATORS) != 0 && isExpensive(animation.getInterpolator())) {
+            animation.setInterpolator(Interpolators.get(Animus.Interpolation.DECELERATE));
+            simplifiedCount.incrementAndGet();
+        }
+        return animation;
+    }
+
+    /**
+     * Bouncing interpolators move the view back and forth, every extra pass costs frames.
+     * Baked ones are lookup tables and are kept
+     */
+    private static boolean isExpensive(Interpolator interpolator) {
+        return interpolator instanceof BounceInterpolator || interpolator instanceof AnticipateOvershootInterpolator;
+    }
+
+    /**
+     * Returns current pressure level, none if frames were not watched recently
+     */
+    static int getPressure() {
+        if (System.nanoTime() - instance.sampledNanos > STALE_NANOS) {
+            return PRESSURE_NONE;
+        }
+        float jank = instance.jank;
+        return jank >= HEAVY_JANK ? PRESSURE_HEAVY : (jank >= MODERATE_JANK ? PRESSURE_MODERATE : PRESSURE_NONE);
+    }
+
+    static long getShortenedCount() {
+        return shortenedCount.get();
+    }
+
+    static long getSimplifiedCount() {
+        return simplifiedCount.get();
+    }
+
+    static long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    static void resetCounters() {
+        shortenedCount.set(0);
+        simplifiedCount.set(0);
+        skippedCount.set(0);
+    }
+
+    /**
+     * Keep watching frames while the animation runs
+     */
+    private void watch(long durationMillis) {
+        long until = System.nanoTime() + durationMillis * 1000000L + LINGER_NANOS;
+        if (until > watchUntilNanos) {
+            watchUntilNanos = until;
+        }
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            run();
+        }
+        else {
+            mainHandler.post(this);
+        }
+    }
+
+    /**
+     * Start watching frames on the main thread
+     */
+    @Override
+    public void run() {
+        if (!scheduled) {
+            scheduled = true;
+            lastFrameNanos = 0;
+            if (System.nanoTime() - sampledNanos > STALE_NANOS) {
+                jank = 0;
+            }
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (lastFrameNanos != 0) {
+            long interval = frameTimeNanos - lastFrameNanos;
+            float janky = interval * 2 > MetricsRecorder.getFrameIntervalNanos() * 3 ? 1f : 0f;
+            jank += (janky - jank) * SMOOTHING;
+            sampledNanos = frameTimeNanos;
+        }
+        lastFrameNanos = frameTimeNanos;
+
+        if (frameTimeNanos < watchUntilNanos) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+        else {
+            scheduled = false;
+        }
+    }
+}
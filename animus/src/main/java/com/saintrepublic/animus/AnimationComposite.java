@@ -0,0 +1,369 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationSet;
+import android.view.animation.Interpolator;
+
+import java.util.ArrayList;
+
+/**
+ * Immutable group of animations running together or one after another,
+ * like fade and slide. Children are described by AnimationSpec,
+ * the group has one interpolator and one listener for all of them.
+ * Interpolators and listeners of the child specs are not used.
+ * Parallel group of equally long children with at most one animation of each kind,
+ * added in the order scale, rotate, move (opacity anywhere), runs as a single
+ * FusedTransformAnimation, other groups run as AnimationSet
+ */
+public final class AnimationComposite {
+
+    final boolean sequential;
+    final AnimationSpec[] children;
+    // True if the group runs as one FusedTransformAnimation
+    final boolean fused;
+
+    final boolean fillAfter;
+    final boolean fillBefore;
+    final Interpolator interpolator;
+    final Animation.AnimationListener listener;
+    final boolean hardwareLayer;
+    final boolean retarget;
+    final boolean coalesce;
+    final boolean commitEnd;
+    final Animus.Metrics.Sink metricsSink;
+    // Instance the builder came from, null for static Animus. Tracks created animations and animated views
+    final Animus.Instance owner;
+
+    private AnimationComposite(Builder builder) {
+        sequential = builder.sequential;
+        children = builder.children.toArray(new AnimationSpec[builder.children.size()]);
+        fused = !sequential && canFuse(children);
+        fillAfter = builder.fillAfter;
+        fillBefore = builder.fillBefore;
+        interpolator = builder.interpolator;
+        listener = builder.listener;
+        hardwareLayer = builder.hardwareLayer;
+        retarget = builder.retarget;
+        coalesce = builder.coalesce;
+        commitEnd = builder.commitEnd;
+        metricsSink = builder.metricsSink;
+        owner = builder.owner;
+    }
+
+    /**
+     * Create new animation of the group
+     *
+     * @return Animation ready to start
+     */
+    public Animation create() {
+        if (fused) {
+            return createFused();
+        }
+
+        AnimationSet set = new AnimationSet(true);
+        long offset = 0;
+        for (AnimationSpec child : children) {
+            Animation animation = child.createChild();
+            // Children hold their values outside their own time, the group decides about filling
+            animation.setFillAfter(true);
+            animation.setFillBefore(true);
+            animation.setFillEnabled(true);
+            if (sequential) {
+                animation.setStartOffset(offset);
+                offset += child.duration;
+            }
+            set.addAnimation(animation);
+        }
+
+        set.setFillAfter(fillAfter);
+        set.setFillBefore(fillBefore);
+        set.setFillEnabled(fillBefore);
+        set.setInterpolator(interpolator);
+        MetricsRecorder.created(sequential ? AnimationFactory.COMPOSITE_SEQUENTIAL : AnimationFactory.COMPOSITE_PARALLEL, set);
+        set.setAnimationListener(MetricsRecorder.listenerFor(set, listener, metricsSink));
+        if (owner != null) {
+            owner.track(set);
+        }
+        return set;
+    }
+
+    private Animation createFused() {
+        FusedTransformAnimation animation = new FusedTransformAnimation();
+        for (AnimationSpec child : children) {
+            switch (child.type) {
+                case AnimationSpec.TRANSLATE: {
+                    animation.setTranslate(child.relation0, child.from0, child.relation1, child.to0,
+                            child.relation2, child.from1, child.relation3, child.to1);
+                    break;
+                }
+                case AnimationSpec.ALPHA: {
+                    animation.setAlpha(child.from0, child.to0);
+                    break;
+                }
+                case AnimationSpec.SCALE: {
+                    animation.setScale(child.from0, child.to0, child.from1, child.to1,
+                            child.relation0, child.pivotX, child.relation1, child.pivotY);
+                    break;
+                }
+                default: {
+                    animation.setRotate(child.from0, child.to0, child.relation0, child.pivotX, child.relation1, child.pivotY);
+                    break;
+                }
+            }
+        }
+
+        animation.setDuration(children[0].duration);
+        animation.setFillAfter(fillAfter);
+        animation.setFillBefore(fillBefore);
+        animation.setFillEnabled(fillBefore);
+        animation.setInterpolator(interpolator);
+        MetricsRecorder.created(AnimationFactory.COMPOSITE_PARALLEL, animation);
+        animation.setAnimationListener(MetricsRecorder.listenerFor(animation, listener, metricsSink));
+        if (owner != null) {
+            owner.track(animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Children fit one matrix if they end together and their transforms are in the fused order
+     */
+    private static boolean canFuse(AnimationSpec[] children) {
+        boolean hasAlpha = false;
+        int lastTransform = -1;
+        for (AnimationSpec child : children) {
+            if (child.duration != children[0].duration) {
+                return false;
+            }
+            if (child.type == AnimationSpec.ALPHA) {
+                if (hasAlpha) {
+                    return false;
+                }
+                hasAlpha = true;
+                continue;
+            }
+
+            int order = child.type == AnimationSpec.SCALE ? 0 : child.type == AnimationSpec.ROTATE ? 1 : 2;
+            if (order <= lastTransform) {
+                return false;
+            }
+            lastTransform = order;
+        }
+        return true;
+    }
+
+    /**
+     * Start the group on the view. The finished animation of the same group
+     * left on the view is restarted instead of creating a new one
+     *
+     * @param view View to animate
+     */
+    public void applyTo(View view) {
+        ViewState state = ViewState.of(view);
+        Animation animation = state.reusableAnimation(this);
+        if (animation == null) {
+            animation = create();
+        }
+        else {
+            animation.reset();
+        }
+        if (owner != null) {
+            owner.track(view);
+        }
+        state.start(animation, this, MetricsRecorder.listenerFor(animation, listener, metricsSink), null, hardwareLayer, retarget,
+                coalesce, commitEnd);
+    }
+
+    /**
+     * Returns whether children run one after another
+     *
+     * @return True for sequential group, false for parallel one
+     */
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    /**
+     * Returns total duration of the group
+     *
+     * @return duration in milliseconds
+     */
+    public long getDuration() {
+        long duration = 0;
+        for (AnimationSpec child : children) {
+            duration = sequential ? duration + child.duration : Math.max(duration, child.duration);
+        }
+        return duration;
+    }
+
+    /**
+     * Builder of AnimationComposite, created by Animus.parallel, Animus.sequential
+     * or the same methods of Animus.Instance with common parameters of static Animus or the instance
+     */
+    public static final class Builder {
+
+        private final boolean sequential;
+        private final ArrayList<AnimationSpec> children = new ArrayList<>();
+
+        private boolean fillAfter;
+        private boolean fillBefore;
+        private Interpolator interpolator;
+        private Animation.AnimationListener listener;
+        private boolean hardwareLayer;
+        private boolean retarget;
+        private boolean coalesce;
+        private boolean commitEnd;
+        private Animus.Metrics.Sink metricsSink;
+        private final Animus.Instance owner;
+
+        Builder(boolean sequential, Interpolator interpolator, Animation.AnimationListener listener,
+                boolean fillBefore, boolean hardwareLayer, boolean retarget, boolean coalesce,
+                boolean commitEnd, Animus.Metrics.Sink metricsSink, Animus.Instance owner) {
+            this.sequential = sequential;
+            this.interpolator = interpolator;
+            this.listener = listener;
+            this.fillBefore = fillBefore;
+            this.hardwareLayer = hardwareLayer;
+            this.retarget = retarget;
+            this.coalesce = coalesce;
+            this.commitEnd = commitEnd;
+            this.metricsSink = metricsSink;
+            this.owner = owner;
+        }
+
+        /**
+         * Add animation to the group. In sequential group it starts when the previous one ends
+         *
+         * @param spec Spec of the child animation
+         * @return This builder
+         */
+        public Builder add(AnimationSpec spec) {
+            if (spec == null) {
+                throw new IllegalArgumentException("Spec must not be null");
+            }
+            children.add(spec);
+            return this;
+        }
+
+        /**
+         * Set fillAfter parameter of the group
+         *
+         * @param fillAfter true if the group should apply its transformation after it ends
+         * @return This builder
+         */
+        public Builder fillAfter(boolean fillAfter) {
+            this.fillAfter = fillAfter;
+            return this;
+        }
+
+        /**
+         * Set fillBefore parameter of the group instead of the common one
+         *
+         * @param fillBefore fillBefore parameter
+         * @return This builder
+         */
+        public Builder fillBefore(boolean fillBefore) {
+            this.fillBefore = fillBefore;
+            return this;
+        }
+
+        /**
+         * Set interpolator shared by all children instead of the common one
+         *
+         * @param interpolator Interpolator
+         * @return This builder
+         */
+        public Builder interpolator(Interpolator interpolator) {
+            this.interpolator = interpolator;
+            return this;
+        }
+
+        /**
+         * Set listener of the group instead of the common one
+         *
+         * @param listener AnimationListener, can be null
+         * @return This builder
+         */
+        public Builder listener(Animation.AnimationListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Set hardware layer parameter instead of the common one
+         *
+         * @param hardwareLayer true to render the view into hardware layer while the group runs
+         * @return This builder
+         */
+        public Builder hardwareLayer(boolean hardwareLayer) {
+            this.hardwareLayer = hardwareLayer;
+            return this;
+        }
+
+        /**
+         * Set retarget parameter instead of the common one, see Animus.setCommonRetarget
+         *
+         * @param retarget true to continue from the transformation of the animation running on the view
+         * @return This builder
+         */
+        public Builder retarget(boolean retarget) {
+            this.retarget = retarget;
+            return this;
+        }
+
+        /**
+         * Set coalesce parameter instead of the common one, see Animus.setCommonCoalesce
+         *
+         * @param coalesce true to skip applying while the same request is active or already satisfied
+         * @return This builder
+         */
+        public Builder coalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+            return this;
+        }
+
+        /**
+         * Set commit end parameter instead of the common one, see Animus.setCommonCommitEnd
+         *
+         * @param commitEnd true to write the end of the animation with fillAfter to view properties
+         * @return This builder
+         */
+        public Builder commitEnd(boolean commitEnd) {
+            this.commitEnd = commitEnd;
+            return this;
+        }
+
+        /**
+         * Validate parameters and build the group
+         *
+         * @return New AnimationComposite
+         * @throws IllegalStateException if no child is added or interpolator is null
+         */
+        public AnimationComposite build() {
+            if (children.isEmpty()) {
+                throw new IllegalStateException("Group has no animations, call add");
+            }
+            if (interpolator == null) {
+                throw new IllegalStateException("Interpolator must not be null");
+            }
+            return new AnimationComposite(this);
+        }
+    }
+}
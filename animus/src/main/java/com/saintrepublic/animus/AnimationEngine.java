@@ -0,0 +1,323 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.animation.Interpolator;
+
+/**
+ * Engine which advances all its tracks from a single frame callback.
+ * A track animates one property of one view, tracks are kept in flat arrays
+ * indexed by slot and values are written straight to view properties.
+ * Slots of a view are found through its ViewState, so adding and cancelling tracks
+ * doesn't scan other views. Frames allocate nothing, arrays only grow when more tracks
+ * are added than ever before. Must be used from the main thread.
+ */
+final class AnimationEngine implements Choreographer.FrameCallback {
+
+    static final int TRANSLATION_X = 0;
+    static final int TRANSLATION_Y = 1;
+    static final int ALPHA = 2;
+    static final int SCALE_X = 3;
+    static final int SCALE_Y = 4;
+    static final int ROTATION = 5;
+    // Number of engine properties
+    static final int PROPERTY_COUNT = 6;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Start time is not known until the first frame after the track was added
+    private static final long NOT_STARTED = -1;
+
+    private static final AnimationEngine instance = new AnimationEngine();
+
+    // Interpolators referenced by tracks, first ones are the shared Animus.Interpolation types.
+    // Other ones are counted by tracks using them and their entries are freed for reuse when unused
+    private Interpolator[] interpolators = new Interpolator[Interpolators.COUNT];
+    private int[] interpolatorUses = new int[Interpolators.COUNT];
+    private int interpolatorCount;
+
+    private ViewState[] states = new ViewState[INITIAL_CAPACITY];
+    private int[] properties = new int[INITIAL_CAPACITY];
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private long[] delays = new long[INITIAL_CAPACITY];
+    private long[] durations = new long[INITIAL_CAPACITY];
+    private float[] fromValues = new float[INITIAL_CAPACITY];
+    private float[] toValues = new float[INITIAL_CAPACITY];
+    private int[] interpolatorIndices = new int[INITIAL_CAPACITY];
+    private Runnable[] endActions = new Runnable[INITIAL_CAPACITY];
+    private int count;
+
+    private boolean scheduled;
+
+    private AnimationEngine() {
+        for (int type = 0; type < Interpolators.COUNT; type++) {
+            interpolators[type] = Interpolators.get(type);
+        }
+        interpolatorCount = Interpolators.COUNT;
+    }
+
+    static AnimationEngine getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns index of the interpolator in the engine table, adding it if needed.
+     * Index of a custom interpolator is valid until the tracks it is passed to end,
+     * so the table holds only interpolators of running tracks
+     */
+    int indexOf(Interpolator interpolator) {
+        int free = -1;
+        for (int i = 0; i < interpolatorCount; i++) {
+            if (interpolators[i] == interpolator) {
+                return i;
+            }
+            if (interpolators[i] == null && free < 0) {
+                free = i;
+            }
+        }
+        if (free >= 0) {
+            interpolators[free] = interpolator;
+            return free;
+        }
+
+        if (interpolatorCount == interpolators.length) {
+            Interpolator[] grown = new Interpolator[interpolatorCount * 2];
+            int[] grownUses = new int[interpolatorCount * 2];
+            System.arraycopy(interpolators, 0, grown, 0, interpolatorCount);
+            System.arraycopy(interpolatorUses, 0, grownUses, 0, interpolatorCount);
+            interpolators = grown;
+            interpolatorUses = grownUses;
+        }
+        interpolators[interpolatorCount] = interpolator;
+        return interpolatorCount++;
+    }
+
+    /**
+     * Forget a track using the interpolator, unused custom interpolator frees its entry
+     */
+    private void releaseInterpolator(int index) {
+        if (index >= Interpolators.COUNT && --interpolatorUses[index] == 0) {
+            interpolators[index] = null;
+        }
+    }
+
+    /**
+     * Animate property of the view, replacing the running track of the same property
+     *
+     * @param view Animated view
+     * @param property One of engine properties
+     * @param from Value at the start
+     * @param to Value at the end
+     * @param duration Duration in milliseconds
+     * @param delay Delay before the start in milliseconds
+     * @param interpolatorIndex Index returned by indexOf or Animus.Interpolation type
+     * @param endAction Called when the track ends, can be null
+     */
+    void animate(View view, int property, float from, float to, long duration, long delay,
+                 int interpolatorIndex, Runnable endAction) {
+        // Counted before the replaced track is released, which may use the same interpolator
+        if (interpolatorIndex >= Interpolators.COUNT) {
+            interpolatorUses[interpolatorIndex]++;
+        }
+        ViewState state = ViewState.of(view);
+        int slot = state.getEngineSlot(property);
+        if (slot < 0) {
+            ensureCapacity(count + 1);
+            slot = count++;
+            state.setEngineSlot(property, slot);
+        }
+        else {
+            releaseInterpolator(interpolatorIndices[slot]);
+        }
+
+        states[slot] = state;
+        properties[slot] = property;
+        startTimes[slot] = NOT_STARTED;
+        delays[slot] = delay;
+        durations[slot] = Math.max(duration, 0);
+        fromValues[slot] = from;
+        toValues[slot] = to;
+        interpolatorIndices[slot] = interpolatorIndex;
+        endActions[slot] = endAction;
+
+        if (delay == 0) {
+            apply(view, property, from);
+        }
+
+        if (!scheduled) {
+            scheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Stop all tracks of the view, leaving its properties at current values
+     *
+     * @return Number of stopped tracks
+     */
+    int cancel(View view) {
+        ViewState state = ViewState.peek(view);
+        if (state == null) {
+            return 0;
+        }
+        int cancelled = 0;
+        for (int property = 0; property < PROPERTY_COUNT; property++) {
+            int slot = state.getEngineSlot(property);
+            if (slot >= 0) {
+                remove(slot);
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Stop all tracks, leaving properties at current values
+     */
+    void cancelAll() {
+        for (int slot = count - 1; slot >= 0; slot--) {
+            remove(slot);
+        }
+    }
+
+    int getActiveCount() {
+        return count;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        long now = frameTimeNanos / 1000000;
+
+        for (int slot = count - 1; slot >= 0; slot--) {
+            if (startTimes[slot] == NOT_STARTED) {
+                startTimes[slot] = now + delays[slot];
+            }
+
+            long elapsed = now - startTimes[slot];
+            if (elapsed < 0) {
+                continue;
+            }
+
+            long duration = durations[slot];
+            float fraction = duration == 0 || elapsed >= duration ? 1f : (float) elapsed / duration;
+            float interpolated = interpolators[interpolatorIndices[slot]].getInterpolation(fraction);
+            float from = fromValues[slot];
+            apply(states[slot].getView(), properties[slot], from + (toValues[slot] - from) * interpolated);
+
+            if (fraction >= 1f) {
+                Runnable endAction = endActions[slot];
+                remove(slot);
+                if (endAction != null) {
+                    endAction.run();
+                }
+            }
+        }
+
+        if (count > 0) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+        else {
+            scheduled = false;
+        }
+    }
+
+    /**
+     * Move the last track into the slot
+     */
+    private void remove(int slot) {
+        states[slot].setEngineSlot(properties[slot], -1);
+        releaseInterpolator(interpolatorIndices[slot]);
+
+        int last = --count;
+        if (slot != last) {
+            states[slot] = states[last];
+            states[slot].setEngineSlot(properties[last], slot);
+            properties[slot] = properties[last];
+            startTimes[slot] = startTimes[last];
+            delays[slot] = delays[last];
+            durations[slot] = durations[last];
+            fromValues[slot] = fromValues[last];
+            toValues[slot] = toValues[last];
+            interpolatorIndices[slot] = interpolatorIndices[last];
+            endActions[slot] = endActions[last];
+        }
+        states[last] = null;
+        endActions[last] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= states.length) {
+            return;
+        }
+
+        int size = Math.max(capacity, states.length * 2);
+        ViewState[] newStates = new ViewState[size];
+        int[] newProperties = new int[size];
+        long[] newStartTimes = new long[size];
+        long[] newDelays = new long[size];
+        long[] newDurations = new long[size];
+        float[] newFromValues = new float[size];
+        float[] newToValues = new float[size];
+        int[] newInterpolatorIndices = new int[size];
+        Runnable[] newEndActions = new Runnable[size];
+
+        System.arraycopy(states, 0, newStates, 0, count);
+        System.arraycopy(properties, 0, newProperties, 0, count);
+        System.arraycopy(startTimes, 0, newStartTimes, 0, count);
+        System.arraycopy(delays, 0, newDelays, 0, count);
+        System.arraycopy(durations, 0, newDurations, 0, count);
+        System.arraycopy(fromValues, 0, newFromValues, 0, count);
+        System.arraycopy(toValues, 0, newToValues, 0, count);
+        System.arraycopy(interpolatorIndices, 0, newInterpolatorIndices, 0, count);
+        System.arraycopy(endActions, 0, newEndActions, 0, count);
+
+        states = newStates;
+        properties = newProperties;
+        startTimes = newStartTimes;
+        delays = newDelays;
+        durations = newDurations;
+        fromValues = newFromValues;
+        toValues = newToValues;
+        interpolatorIndices = newInterpolatorIndices;
+        endActions = newEndActions;
+    }
+
+    static float read(View view, int property) {
+        switch (property) {
+            case TRANSLATION_X: { return view.getTranslationX();}
+            case TRANSLATION_Y: { return view.getTranslationY();}
+            case ALPHA: { return view.getAlpha();}
+            case SCALE_X: { return view.getScaleX();}
+            case SCALE_Y: { return view.getScaleY();}
+            case ROTATION: { return view.getRotation();}
+            default: { return 0;}
+        }
+    }
+
+    static void apply(View view, int property, float value) {
+        switch (property) {
+            case TRANSLATION_X: { view.setTranslationX(value); break;}
+            case TRANSLATION_Y: { view.setTranslationY(value); break;}
+            case ALPHA: { view.setAlpha(value); break;}
+            case SCALE_X: { view.setScaleX(value); break;}
+            case SCALE_Y: { view.setScaleY(value); break;}
+            case ROTATION: { view.setRotation(value); break;}
+        }
+    }
+}
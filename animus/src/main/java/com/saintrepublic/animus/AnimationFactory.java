@@ -0,0 +1,169 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Animation;
+
+/**
+ * Identifiers of Animus factories and the construction of their animations.
+ * Static Animus and Animus.Instance share the same identifiers,
+ * so Instance.toLeft and Move.To.left are the same factory.
+ */
+final class AnimationFactory {
+
+    static final int MOVE_TO_LEFT = 0;
+    static final int MOVE_TO_RIGHT = 1;
+    static final int MOVE_TO_TOP = 2;
+    static final int MOVE_TO_BOTTOM = 3;
+    static final int MOVE_TO_PARENT_LEFT = 4;
+    static final int MOVE_TO_PARENT_RIGHT = 5;
+    static final int MOVE_TO_PARENT_TOP = 6;
+    static final int MOVE_TO_PARENT_BOTTOM = 7;
+    static final int MOVE_FROM_LEFT = 8;
+    static final int MOVE_FROM_RIGHT = 9;
+    static final int MOVE_FROM_TOP = 10;
+    static final int MOVE_FROM_BOTTOM = 11;
+    static final int MOVE_FROM_PARENT_LEFT = 12;
+    static final int MOVE_FROM_PARENT_RIGHT = 13;
+    static final int MOVE_FROM_PARENT_TOP = 14;
+    static final int MOVE_FROM_PARENT_BOTTOM = 15;
+    static final int MOVE = 16;
+    static final int MOVE_TO_PARENT = 17;
+    static final int MOVE_FROM_SELF_TO_PARENT = 18;
+    static final int MOVE_FROM_PARENT_TO_SELF = 19;
+    static final int MOVE_CUSTOM = 20;
+    static final int ALPHA_HIDE = 21;
+    static final int ALPHA_SHOW = 22;
+    static final int ALPHA = 23;
+    static final int SCALE = 24;
+    static final int SCALE_FROM_0_TO_1 = 25;
+    static final int SCALE_FROM_1_TO_0 = 26;
+    static final int SCALE_FROM_1_TO_2 = 27;
+    static final int SCALE_FROM_2_TO_1 = 28;
+    static final int SCALE_CUSTOM = 29;
+    static final int ROTATE_RELATIVE_TO_SELF = 30;
+    static final int ROTATE_RELATIVE_TO_PARENT = 31;
+    static final int ROTATE_CUSTOM = 32;
+    static final int COMPOSITE_PARALLEL = 33;
+    static final int COMPOSITE_SEQUENTIAL = 34;
+    static final int KEYFRAME_CUSTOM = 35;
+    static final int KEYFRAME_MOVE_X = 36;
+    static final int KEYFRAME_MOVE_Y = 37;
+    static final int KEYFRAME_SCALE = 38;
+    static final int KEYFRAME_ROTATE = 39;
+    static final int KEYFRAME_ALPHA = 40;
+    static final int KEYFRAME_SHAKE = 41;
+    static final int KEYFRAME_BOUNCE = 42;
+    static final int ALPHA_HIDE_GONE = 43;
+    static final int ALPHA_HIDE_INVISIBLE = 44;
+    static final int ALPHA_SHOW_VISIBLE = 45;
+
+    // Number of known factories
+    static final int COUNT = 46;
+
+    // Human readable factory names, indexed by factory identifier
+    private static final String[] NAMES = {
+            "Move.To.left", "Move.To.right", "Move.To.top", "Move.To.bottom",
+            "Move.To.Parent.left", "Move.To.Parent.right", "Move.To.Parent.top", "Move.To.Parent.bottom",
+            "Move.From.left", "Move.From.right", "Move.From.top", "Move.From.bottom",
+            "Move.From.Parent.left", "Move.From.Parent.right", "Move.From.Parent.top", "Move.From.Parent.bottom",
+            "Move.move", "Move.moveToParent", "Move.moveFromSelfToParent", "Move.moveFromParentToSelf", "Move.custom",
+            "Alpha.hide", "Alpha.show", "Alpha.alpha",
+            "Scale.scale", "Scale.from0to1", "Scale.from1to0", "Scale.from1to2", "Scale.from2to1", "Scale.custom",
+            "Rotate.relativeToSelf", "Rotate.relativeToParent", "Rotate.custom",
+            "Composite.parallel", "Composite.sequential",
+            "Keyframe.custom", "Keyframe.moveX", "Keyframe.moveY", "Keyframe.scale", "Keyframe.rotate", "Keyframe.alpha",
+            "Keyframe.shake", "Keyframe.bounce",
+            "Alpha.hideGone", "Alpha.hideInvisible", "Alpha.showVisible"
+    };
+
+    private AnimationFactory() {}
+
+    /**
+     * Returns factory name like "Move.To.left"
+     *
+     * @param factory Factory identifier
+     * @return Factory name
+     */
+    static String getName(int factory) {
+        return factory >= 0 && factory < COUNT ? NAMES[factory] : "Unknown";
+    }
+
+    /**
+     * Returns identifier of the factory which created the animation
+     *
+     * @return Factory identifier or -1 for animations not created by factories
+     */
+    static int factoryOf(Animation animation) {
+        return animation instanceof AnimationPool.Pooled ? ((AnimationPool.Pooled) animation).getKey().factory : -1;
+    }
+
+    static Animation translate(int factory, int fxRelation, float fx, int txRelation, float tx,
+                               int fyRelation, float fy, int tyRelation, float ty) {
+        boolean pooled = AnimationPool.isEnabled();
+        Animation animation = pooled ? AnimationPool.obtain(factory, fx, tx, fy, ty, fxRelation, txRelation, fyRelation, tyRelation) : null;
+        if (animation == null) {
+            animation = new AnimationPool.Translate(factory, entry(pooled, factory),
+                    fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
+        }
+        return MetricsRecorder.created(factory, animation);
+    }
+
+    static Animation alpha(int factory, float fromAlpha, float toAlpha) {
+        boolean pooled = AnimationPool.isEnabled();
+        Animation animation = pooled ? AnimationPool.obtain(factory, fromAlpha, toAlpha, 0, 0, 0, 0, 0, 0) : null;
+        if (animation == null) {
+            animation = new AnimationPool.Alpha(factory, entry(pooled, factory), fromAlpha, toAlpha);
+        }
+        return MetricsRecorder.created(factory, animation);
+    }
+
+    static Animation scale(int factory, float fx, float tx, float fy, float ty,
+                           int pivotXRelation, float pivotX, int pivotYRelation, float pivotY) {
+        boolean pooled = AnimationPool.isEnabled();
+        Animation animation = pooled ? AnimationPool.obtain(factory, fx, tx, fy, ty, pivotX, pivotY, pivotXRelation, pivotYRelation) : null;
+        if (animation == null) {
+            animation = new AnimationPool.Scale(factory, entry(pooled, factory),
+                    fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
+        }
+        return MetricsRecorder.created(factory, animation);
+    }
+
+    static Animation rotate(int factory, float fd, float td,
+                            int pivotXRelation, float pivotX, int pivotYRelation, float pivotY) {
+        boolean pooled = AnimationPool.isEnabled();
+        Animation animation = pooled ? AnimationPool.obtain(factory, fd, td, pivotX, pivotY, pivotXRelation, pivotYRelation, 0, 0) : null;
+        if (animation == null) {
+            animation = new AnimationPool.Rotate(factory, entry(pooled, factory),
+                    fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
+        }
+        return MetricsRecorder.created(factory, animation);
+    }
+
+    /**
+     * Pool entry of a new animation, animations created while the pool is disabled need none
+     */
+    private static AnimationPool.Entry entry(boolean pooled, int factory) {
+        return pooled ? new AnimationPool.Entry(factory) : null;
+    }
+
+    static KeyframeAnimation keyframes(int factory) {
+        KeyframeAnimation animation = new KeyframeAnimation();
+        MetricsRecorder.created(factory, animation);
+        return animation;
+    }
+}
@@ -0,0 +1,121 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Animation;
+
+/**
+ * Common listeners of static Animus or an instance, dispatched in order.
+ * Listeners are kept in a copy-on-write array: changes copy the array,
+ * dispatching reads it once and loops over it without allocations.
+ * Animations reference this object, so listeners added later receive their events too.
+ */
+final class AnimationListeners implements Animation.AnimationListener {
+
+    private static final Animation.AnimationListener[] EMPTY = new Animation.AnimationListener[0];
+
+    private volatile Animation.AnimationListener[] listeners = EMPTY;
+
+    /**
+     * Replace all listeners with the listener
+     *
+     * @param listener Listener or null to remove all
+     */
+    synchronized void set(Animation.AnimationListener listener) {
+        listeners = listener != null ? new Animation.AnimationListener[] {listener} : EMPTY;
+    }
+
+    /**
+     * Replace all listeners with listeners of the other object
+     */
+    synchronized void set(AnimationListeners other) {
+        listeners = other.listeners;
+    }
+
+    synchronized void add(Animation.AnimationListener listener) {
+        Animation.AnimationListener[] listeners = this.listeners;
+        Animation.AnimationListener[] added = new Animation.AnimationListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, added, 0, listeners.length);
+        added[listeners.length] = listener;
+        this.listeners = added;
+    }
+
+    /**
+     * Remove the first occurrence of the listener, weakly held one is matched by its referent
+     *
+     * @return True if the listener was removed
+     */
+    synchronized boolean remove(Animation.AnimationListener listener) {
+        Animation.AnimationListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            Animation.AnimationListener current = listeners[i];
+            if (current == listener || WeakAnimationListener.unwrap(current) == listener) {
+                if (listeners.length == 1) {
+                    this.listeners = EMPTY;
+                }
+                else {
+                    Animation.AnimationListener[] removed = new Animation.AnimationListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, removed, 0, i);
+                    System.arraycopy(listeners, i + 1, removed, i, listeners.length - i - 1);
+                    this.listeners = removed;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first listener, unwrapped if it is held weakly
+     */
+    Animation.AnimationListener first() {
+        Animation.AnimationListener[] listeners = this.listeners;
+        return listeners.length > 0 ? WeakAnimationListener.unwrap(listeners[0]) : null;
+    }
+
+    boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    int size() {
+        return listeners.length;
+    }
+
+    @Override
+    public void onAnimationStart(Animation animation) {
+        Animation.AnimationListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onAnimationStart(animation);
+        }
+    }
+
+    @Override
+    public void onAnimationEnd(Animation animation) {
+        Animation.AnimationListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onAnimationEnd(animation);
+        }
+    }
+
+    @Override
+    public void onAnimationRepeat(Animation animation) {
+        Animation.AnimationListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onAnimationRepeat(animation);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Animation;
+
+/**
+ * Frame timing of a single animation created by Animus factories,
+ * delivered to Animus.Metrics.Sink when the animation ends.
+ * The object is reused if the animation runs again, copy values to keep them
+ */
+public final class AnimationMetrics {
+
+    // Maximum number of frame intervals kept per animation
+    public static final int MAX_INTERVALS = 256;
+
+    final long[] frameIntervals = new long[MAX_INTERVALS];
+
+    Animation animation;
+    int factory = -1;
+    long createdNanos;
+    long firstFrameNanos;
+    long lastFrameNanos;
+    long endNanos;
+    int frameCount;
+    int intervalCount;
+    int droppedFrames;
+
+    AnimationMetrics() {}
+
+    /**
+     * Returns the measured animation, available only inside Sink.onAnimationMetrics
+     *
+     * @return Animation
+     */
+    public Animation getAnimation() {
+        return animation;
+    }
+
+    /**
+     * Returns name of the factory which created the animation, like "Move.To.left"
+     *
+     * @return Factory name
+     */
+    public String getFactory() {
+        return AnimationFactory.getName(factory);
+    }
+
+    /**
+     * Returns time from the factory call to the first frame of the animation
+     *
+     * @return Start latency in nanoseconds
+     */
+    public long getStartLatencyNanos() {
+        return firstFrameNanos - createdNanos;
+    }
+
+    /**
+     * Returns time from the first frame to the end of the animation
+     *
+     * @return Wall time in nanoseconds
+     */
+    public long getWallTimeNanos() {
+        return endNanos - firstFrameNanos;
+    }
+
+    /**
+     * Returns number of frames drawn while the animation was running
+     *
+     * @return Frame count
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns number of frames missed between drawn frames
+     *
+     * @return Dropped frame count
+     */
+    public int getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Returns number of kept frame intervals, at most MAX_INTERVALS
+     *
+     * @return Frame interval count
+     */
+    public int getFrameIntervalCount() {
+        return intervalCount;
+    }
+
+    /**
+     * Returns interval between two neighbouring frames
+     *
+     * @param index Interval index, from 0 to getFrameIntervalCount() - 1
+     * @return Frame interval in nanoseconds
+     */
+    public long getFrameIntervalNanos(int index) {
+        return frameIntervals[index];
+    }
+
+    /**
+     * Returns longest interval between two frames
+     *
+     * @return Longest frame interval in nanoseconds
+     */
+    public long getMaxFrameIntervalNanos() {
+        long max = 0;
+        for (int i = 0; i < intervalCount; i++) {
+            max = Math.max(max, frameIntervals[i]);
+        }
+        return max;
+    }
+
+    void frame(long frameNanos, long expectedIntervalNanos) {
+        if (lastFrameNanos != 0) {
+            long interval = frameNanos - lastFrameNanos;
+            if (intervalCount < MAX_INTERVALS) {
+                frameIntervals[intervalCount++] = interval;
+            }
+            long missed = (interval + expectedIntervalNanos / 2) / expectedIntervalNanos - 1;
+            if (missed > 0) {
+                droppedFrames += missed;
+            }
+        }
+        frameCount++;
+        lastFrameNanos = frameNanos;
+    }
+}
@@ -0,0 +1,390 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.AlphaAnimation;
+import android.view.animation.Animation;
+import android.view.animation.RotateAnimation;
+import android.view.animation.ScaleAnimation;
+import android.view.animation.TranslateAnimation;
+
+/**
+ * Bounded pool of finished animations, keyed by factory and its parameters.
+ * Factory animations are subclasses of the platform animations which know their key,
+ * the ones created in pooled mode return themselves to the pool when they end without fillAfter.
+ */
+final class AnimationPool {
+
+    // Default maximum of idle animations kept per factory
+    static final int DEFAULT_CAPACITY = 8;
+
+    private static volatile boolean enabled;
+    private static int capacity = DEFAULT_CAPACITY;
+
+    private static final Entry[][] pools = new Entry[AnimationFactory.COUNT][DEFAULT_CAPACITY];
+    private static final int[] sizes = new int[AnimationFactory.COUNT];
+
+    private static long hits;
+    private static long misses;
+
+    private AnimationPool() {}
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean enable) {
+        enabled = enable;
+        if (!enable) {
+            clear();
+        }
+    }
+
+    static synchronized void setCapacity(int newCapacity) {
+        if (newCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + newCapacity);
+        }
+        for (int factory = 0; factory < AnimationFactory.COUNT; factory++) {
+            Entry[] resized = new Entry[newCapacity];
+            int size = Math.min(sizes[factory], newCapacity);
+            System.arraycopy(pools[factory], 0, resized, 0, size);
+            for (int i = size; i < sizes[factory]; i++) {
+                pools[factory][i].pooled = false;
+            }
+            pools[factory] = resized;
+            sizes[factory] = size;
+        }
+        capacity = newCapacity;
+    }
+
+    static synchronized int getCapacity() {
+        return capacity;
+    }
+
+    static synchronized long getHits() {
+        return hits;
+    }
+
+    static synchronized long getMisses() {
+        return misses;
+    }
+
+    static synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    static synchronized int size() {
+        int size = 0;
+        for (int factory = 0; factory < AnimationFactory.COUNT; factory++) {
+            size += sizes[factory];
+        }
+        return size;
+    }
+
+    static synchronized void clear() {
+        for (int factory = 0; factory < AnimationFactory.COUNT; factory++) {
+            Entry[] pool = pools[factory];
+            for (int i = 0; i < sizes[factory]; i++) {
+                pool[i].pooled = false;
+                pool[i] = null;
+            }
+            sizes[factory] = 0;
+        }
+    }
+
+    /**
+     * Takes an idle animation of the factory with the same parameters
+     *
+     * @return Reset animation or null if there is no matching one
+     */
+    static synchronized Animation obtain(int factory, float p0, float p1, float p2, float p3,
+                                         float p4, float p5, float p6, float p7) {
+        Entry[] pool = pools[factory];
+        int last = sizes[factory] - 1;
+
+        for (int i = last; i >= 0; i--) {
+            Entry entry = pool[i];
+            if (entry.matches(p0, p1, p2, p3, p4, p5, p6, p7)) {
+                pool[i] = pool[last];
+                pool[last] = null;
+                sizes[factory] = last;
+                entry.pooled = false;
+                hits++;
+
+                Animation animation = entry.animation;
+                animation.reset();
+                animation.setStartOffset(0);
+                animation.setRepeatCount(0);
+                return animation;
+            }
+        }
+
+        misses++;
+        return null;
+    }
+
+    /**
+     * Returns whether the animation was created in pooled mode
+     */
+    static boolean isPoolable(Animation animation) {
+        return animation instanceof Pooled && ((Pooled) animation).getKey().entry != null;
+    }
+
+    /**
+     * Returns the pooled animation back to its pool
+     *
+     * @param animation Animation created in pooled mode
+     * @return True if the animation was returned to the pool
+     */
+    static boolean release(Animation animation) {
+        if (!(animation instanceof Pooled)) {
+            return false;
+        }
+        Entry entry = ((Pooled) animation).getKey().entry;
+        return entry != null && release(entry);
+    }
+
+    static synchronized boolean release(Entry entry) {
+        if (!enabled || entry.pooled) {
+            return false;
+        }
+
+        int factory = entry.factory;
+        int size = sizes[factory];
+        if (size >= capacity) {
+            return false;
+        }
+
+        entry.delegate = null;
+        entry.pooled = true;
+        pools[factory][size] = entry;
+        sizes[factory] = size + 1;
+        return true;
+    }
+
+    /**
+     * Keep the pooled animation out of the pool while it is sampled outside of a view.
+     * Sampling the end of an animation without fillAfter would release it even if it is started afterwards
+     *
+     * @param animation Animation which may be created in pooled mode
+     * @param hold True before sampling, false after it
+     */
+    static void hold(Animation animation, boolean hold) {
+        if (animation instanceof Pooled) {
+            Entry entry = ((Pooled) animation).getKey().entry;
+            if (entry != null) {
+                entry.held = hold;
+            }
+        }
+    }
+
+    /**
+     * Animation created by a factory. Knows its factory and parameters, so requests can be compared
+     * even if the pool is disabled, and has a pool entry only if it was created in pooled mode
+     */
+    interface Pooled {
+
+        Key getKey();
+    }
+
+    /**
+     * Factory, parameters and pool entry of a factory animation.
+     * Pooled subclasses of the platform animations delegate to it and differ only in their constructors
+     */
+    static final class Key {
+
+        final int factory;
+        // Pool entry of the animation, null if it was not created in pooled mode
+        final Entry entry;
+        private final float p0, p1, p2, p3, p4, p5, p6, p7;
+
+        Key(int factory, Entry entry, Animation animation,
+            float p0, float p1, float p2, float p3, float p4, float p5, float p6, float p7) {
+            this.factory = factory;
+            this.entry = entry;
+            this.p0 = p0;
+            this.p1 = p1;
+            this.p2 = p2;
+            this.p3 = p3;
+            this.p4 = p4;
+            this.p5 = p5;
+            this.p6 = p6;
+            this.p7 = p7;
+            if (entry != null) {
+                entry.animation = animation;
+            }
+        }
+
+        /**
+         * Returns whether the animation was created with the parameters
+         */
+        boolean matches(float p0, float p1, float p2, float p3, float p4, float p5, float p6, float p7) {
+            return this.p0 == p0 && this.p1 == p1 && this.p2 == p2 && this.p3 == p3
+                    && this.p4 == p4 && this.p5 == p5 && this.p6 == p6 && this.p7 == p7;
+        }
+
+        /**
+         * Returns whether the other animation comes from the same factory with the same parameters
+         */
+        boolean sameKey(Key other) {
+            return factory == other.factory && other.matches(p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+
+        /**
+         * Returns listener to set on the platform animation. The entry of a pooled animation
+         * stays its listener and forwards events to the given one
+         */
+        Animation.AnimationListener listener(Animation.AnimationListener listener) {
+            if (entry == null) {
+                return listener;
+            }
+            entry.delegate = listener;
+            return entry;
+        }
+    }
+
+    /**
+     * Pool state and listener of a factory animation created in pooled mode.
+     * Forwards events to the listener set by Animus and releases the animation at its end.
+     */
+    static final class Entry implements Animation.AnimationListener {
+
+        final int factory;
+
+        Animation animation;
+        Animation.AnimationListener delegate;
+        boolean pooled;
+        // True while the animation is sampled outside of a view, its end does not release it
+        boolean held;
+
+        Entry(int factory) {
+            this.factory = factory;
+        }
+
+        boolean matches(float p0, float p1, float p2, float p3, float p4, float p5, float p6, float p7) {
+            return ((Pooled) animation).getKey().matches(p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+
+        @Override
+        public void onAnimationStart(Animation animation) {
+            if (delegate != null) delegate.onAnimationStart(animation);
+        }
+
+        @Override
+        public void onAnimationEnd(Animation animation) {
+            if (delegate != null) delegate.onAnimationEnd(animation);
+
+            // Animations with fillAfter stay attached to the view, they are released by Animus.Pool.recycle
+            if (!animation.getFillAfter() && !held) {
+                release(this);
+            }
+        }
+
+        @Override
+        public void onAnimationRepeat(Animation animation) {
+            if (delegate != null) delegate.onAnimationRepeat(animation);
+        }
+    }
+
+    static final class Translate extends TranslateAnimation implements Pooled {
+
+        private final Key key;
+
+        Translate(int factory, Entry entry, int fxRelation, float fx, int txRelation, float tx,
+                  int fyRelation, float fy, int tyRelation, float ty) {
+            super(fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
+            key = new Key(factory, entry, this, fx, tx, fy, ty, fxRelation, txRelation, fyRelation, tyRelation);
+            super.setAnimationListener(key.listener(null));
+        }
+
+        @Override
+        public void setAnimationListener(AnimationListener listener) {
+            super.setAnimationListener(key.listener(listener));
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+    }
+
+    static final class Alpha extends AlphaAnimation implements Pooled {
+
+        private final Key key;
+
+        Alpha(int factory, Entry entry, float fromAlpha, float toAlpha) {
+            super(fromAlpha, toAlpha);
+            key = new Key(factory, entry, this, fromAlpha, toAlpha, 0, 0, 0, 0, 0, 0);
+            super.setAnimationListener(key.listener(null));
+        }
+
+        @Override
+        public void setAnimationListener(AnimationListener listener) {
+            super.setAnimationListener(key.listener(listener));
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+    }
+
+    static final class Scale extends ScaleAnimation implements Pooled {
+
+        private final Key key;
+
+        Scale(int factory, Entry entry, float fx, float tx, float fy, float ty,
+              int pivotXRelation, float pivotX, int pivotYRelation, float pivotY) {
+            super(fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            key = new Key(factory, entry, this, fx, tx, fy, ty, pivotX, pivotY, pivotXRelation, pivotYRelation);
+            super.setAnimationListener(key.listener(null));
+        }
+
+        @Override
+        public void setAnimationListener(AnimationListener listener) {
+            super.setAnimationListener(key.listener(listener));
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+    }
+
+    static final class Rotate extends RotateAnimation implements Pooled {
+
+        private final Key key;
+
+        Rotate(int factory, Entry entry, float fd, float td,
+               int pivotXRelation, float pivotX, int pivotYRelation, float pivotY) {
+            super(fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            key = new Key(factory, entry, this, fd, td, pivotX, pivotY, pivotXRelation, pivotYRelation, 0, 0);
+            super.setAnimationListener(key.listener(null));
+        }
+
+        @Override
+        public void setAnimationListener(AnimationListener listener) {
+            super.setAnimationListener(key.listener(listener));
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+    }
+}
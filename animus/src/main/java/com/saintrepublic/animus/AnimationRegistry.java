@@ -0,0 +1,160 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+/**
+ * Animations created by a tracking Animus.Instance and views it started animations on.
+ * Both are held weakly, so tracking doesn't keep finished animations or detached views.
+ * Paused animations are detached from their views through ViewState, which also restores the hardware layer
+ * and suspends metrics, they don't invalidate anything until resumed.
+ * Animations can be registered on any thread, pause, resume and cancel must be called from the main thread.
+ */
+final class AnimationRegistry {
+
+    private final WeakHashMap<Animation, Boolean> animations = new WeakHashMap<>();
+    private final WeakHashMap<View, Boolean> views = new WeakHashMap<>();
+
+    // Paused animations, their views or null if the view is unknown, and elapsed time of each
+    private final ArrayList<Animation> paused = new ArrayList<>();
+    private final ArrayList<View> pausedViews = new ArrayList<>();
+    private long[] pausedElapsed = new long[8];
+
+    synchronized void add(Animation animation) {
+        animations.put(animation, Boolean.TRUE);
+    }
+
+    synchronized void add(View view) {
+        views.put(view, Boolean.TRUE);
+    }
+
+    boolean isPaused() {
+        return !paused.isEmpty();
+    }
+
+    /**
+     * Stop running animations, remembering how long they ran.
+     * Animations of known views are detached from them without end events
+     */
+    void pause() {
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        for (View view : snapshotViews()) {
+            Animation animation = view.getAnimation();
+            if (isRunning(animation) && !paused.contains(animation)) {
+                addPaused(animation, view, now);
+                ViewState.of(view).pause(animation);
+            }
+        }
+        // Animations started on views this instance didn't start them on keep their views
+        for (Animation animation : snapshotAnimations()) {
+            if (isRunning(animation) && !paused.contains(animation)) {
+                addPaused(animation, null, now);
+            }
+        }
+    }
+
+    /**
+     * Continue paused animations from where they stopped.
+     * Animation is not reattached if another one started on its view meanwhile.
+     * Listeners receive onAnimationStart again when the animation continues
+     */
+    void resume() {
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        for (int i = 0; i < paused.size(); i++) {
+            Animation animation = paused.get(i);
+            View view = pausedViews.get(i);
+            animation.setStartTime(now - pausedElapsed[i]);
+            if (view != null) {
+                ViewState.of(view).resume(animation);
+            }
+        }
+        paused.clear();
+        pausedViews.clear();
+    }
+
+    /**
+     * Cancel all tracked and paused animations and drop scheduled requests of the views.
+     * Animations detached from views are released to the pool
+     */
+    void cancel() {
+        for (int i = 0; i < paused.size(); i++) {
+            Animation animation = paused.get(i);
+            animation.cancel();
+            if (pausedViews.get(i) != null) {
+                AnimationPool.release(animation);
+            }
+        }
+        paused.clear();
+        pausedViews.clear();
+
+        for (View view : snapshotViews()) {
+            ViewState state = ViewState.peek(view);
+            if (state != null) {
+                AnimationScheduler.getInstance().drop(state);
+            }
+            Animation animation = view.getAnimation();
+            if (animation != null) {
+                view.clearAnimation();
+                AnimationPool.release(animation);
+            }
+        }
+        // Pooled animations without fillAfter release themselves when the cancel ends them
+        for (Animation animation : snapshotAnimations()) {
+            if (!animation.hasEnded()) {
+                animation.cancel();
+            }
+        }
+
+        synchronized (this) {
+            animations.clear();
+            views.clear();
+        }
+    }
+
+    private static boolean isRunning(Animation animation) {
+        return animation != null && animation.hasStarted() && !animation.hasEnded();
+    }
+
+    private void addPaused(Animation animation, View view, long now) {
+        int index = paused.size();
+        if (index == pausedElapsed.length) {
+            long[] grown = new long[index * 2];
+            System.arraycopy(pausedElapsed, 0, grown, 0, index);
+            pausedElapsed = grown;
+        }
+        paused.add(animation);
+        pausedViews.add(view);
+        pausedElapsed[index] = now - animation.getStartTime();
+    }
+
+    /**
+     * Copy keys, so listeners called while cancelling can register new animations
+     */
+    private synchronized View[] snapshotViews() {
+        return views.keySet().toArray(new View[views.size()]);
+    }
+
+    private synchronized Animation[] snapshotAnimations() {
+        return animations.keySet().toArray(new Animation[animations.size()]);
+    }
+}
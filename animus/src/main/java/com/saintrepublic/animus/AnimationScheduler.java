@@ -0,0 +1,278 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.graphics.Rect;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.animation.Animation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * Global scheduler of animations started by scheduled Animus instances.
+ * Limits the number of running animations and the number of animations started in one frame,
+ * excess requests wait in a priority queue and are started on next frames.
+ * Requests for views outside the visible area of the window, and low priority requests
+ * which can't start right away, are collapsed: the animation jumps to its end on the next draw.
+ * Must be used from the main thread.
+ */
+final class AnimationScheduler implements Choreographer.FrameCallback {
+
+    static final int MAX_RUNNING_DEFAULT = 24;
+    static final int STARTS_PER_FRAME_DEFAULT = 6;
+
+    private static final AnimationScheduler instance = new AnimationScheduler();
+
+    /**
+     * Start request waiting in the queue
+     */
+    private static final class Request {
+        ViewState state;
+        Animation animation;
+        Animation.AnimationListener listener;
+        Animation.AnimationListener extra;
+        boolean hardwareLayer;
+        boolean retarget;
+        boolean coalesce;
+        boolean commitEnd;
+        int priority;
+        // Order of the request, requests of the same priority start in order
+        long sequence;
+    }
+
+    private final PriorityQueue<Request> queue = new PriorityQueue<>(16, new Comparator<Request>() {
+        @Override
+        public int compare(Request first, Request second) {
+            if (first.priority != second.priority) {
+                return first.priority > second.priority ? -1 : 1;
+            }
+            return first.sequence < second.sequence ? -1 : (first.sequence == second.sequence ? 0 : 1);
+        }
+    });
+    private final ArrayList<Request> freeRequests = new ArrayList<>();
+
+    // Views with animations started by the scheduler and the animations, pruned when they end
+    private final ArrayList<ViewState> running = new ArrayList<>();
+    private final ArrayList<Animation> runningAnimations = new ArrayList<>();
+
+    private final Rect visibleRect = new Rect();
+
+    private int maxRunning = MAX_RUNNING_DEFAULT;
+    private int startsPerFrame = STARTS_PER_FRAME_DEFAULT;
+    private int startedInFrame;
+    private long sequence;
+    private long collapsedCount;
+    private boolean scheduled;
+
+    private AnimationScheduler() {}
+
+    static AnimationScheduler getInstance() {
+        return instance;
+    }
+
+    void setMaxRunning(int maxRunning) {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("Max running animations must be positive: " + maxRunning);
+        }
+        this.maxRunning = maxRunning;
+        schedule();
+    }
+
+    int getMaxRunning() {
+        return maxRunning;
+    }
+
+    void setStartsPerFrame(int startsPerFrame) {
+        if (startsPerFrame < 1) {
+            throw new IllegalArgumentException("Starts per frame must be positive: " + startsPerFrame);
+        }
+        this.startsPerFrame = startsPerFrame;
+        schedule();
+    }
+
+    int getStartsPerFrame() {
+        return startsPerFrame;
+    }
+
+    /**
+     * Start the animation now if the limits allow, otherwise queue or collapse it.
+     * Newer request for the view replaces the queued one
+     *
+     * @param priority One of Animus.Scheduler priorities
+     */
+    void request(ViewState state, Animation animation, Animation.AnimationListener listener,
+                 Animation.AnimationListener extra, boolean hardwareLayer, boolean retarget, boolean coalesce,
+                 boolean commitEnd, int priority) {
+        drop(state);
+        if (isOffscreen(state.getView())) {
+            collapse(state, animation, listener, extra, retarget, coalesce, commitEnd);
+            return;
+        }
+
+        prune();
+        if (queue.isEmpty() && canStart()) {
+            start(state, animation, listener, extra, hardwareLayer, retarget, coalesce, commitEnd);
+            return;
+        }
+        if (priority <= Animus.Scheduler.PRIORITY_LOW) {
+            collapse(state, animation, listener, extra, retarget, coalesce, commitEnd);
+            return;
+        }
+
+        Request request = freeRequests.isEmpty() ? new Request() : freeRequests.remove(freeRequests.size() - 1);
+        request.state = state;
+        request.animation = animation;
+        request.listener = listener;
+        request.extra = extra;
+        request.hardwareLayer = hardwareLayer;
+        request.retarget = retarget;
+        request.coalesce = coalesce;
+        request.commitEnd = commitEnd;
+        request.priority = priority;
+        request.sequence = sequence++;
+        queue.add(request);
+        schedule();
+    }
+
+    /**
+     * Remove queued request of the view, its animation is not started
+     * and only its own listener gets the end
+     *
+     * @return True if a request was removed
+     */
+    boolean drop(ViewState state) {
+        Iterator<Request> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Request request = iterator.next();
+            if (request.state == state) {
+                iterator.remove();
+                if (request.extra != null) {
+                    request.extra.onAnimationEnd(request.animation);
+                }
+                AnimationPool.release(request.animation);
+                recycle(request);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int getRunningCount() {
+        prune();
+        return running.size();
+    }
+
+    int getQueuedCount() {
+        return queue.size();
+    }
+
+    long getCollapsedCount() {
+        return collapsedCount;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        scheduled = false;
+        startedInFrame = 0;
+        prune();
+        while (!queue.isEmpty() && canStart()) {
+            Request request = queue.poll();
+            if (isOffscreen(request.state.getView())) {
+                collapse(request.state, request.animation, request.listener, request.extra, request.retarget, request.coalesce,
+                        request.commitEnd);
+            }
+            else {
+                start(request.state, request.animation, request.listener, request.extra, request.hardwareLayer,
+                        request.retarget, request.coalesce, request.commitEnd);
+            }
+            recycle(request);
+        }
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private boolean canStart() {
+        return running.size() < maxRunning && startedInFrame < startsPerFrame;
+    }
+
+    private void start(ViewState state, Animation animation, Animation.AnimationListener listener,
+                       Animation.AnimationListener extra, boolean hardwareLayer, boolean retarget, boolean coalesce,
+                       boolean commitEnd) {
+        if (state.start(animation, null, listener, extra, hardwareLayer, retarget, coalesce, commitEnd)) {
+            startedInFrame++;
+            running.add(state);
+            runningAnimations.add(state.getAnimation());
+            // Budget of this frame is reset by the next frame callback
+            schedule();
+        }
+    }
+
+    private void collapse(ViewState state, Animation animation, Animation.AnimationListener listener,
+                          Animation.AnimationListener extra, boolean retarget, boolean coalesce, boolean commitEnd) {
+        if (state.start(animation, null, listener, extra, false, retarget, coalesce, commitEnd)) {
+            state.jumpToEnd();
+            collapsedCount++;
+        }
+    }
+
+    /**
+     * Forget animations which ended or were replaced on their views
+     */
+    private void prune() {
+        for (int i = running.size() - 1; i >= 0; i--) {
+            Animation animation = runningAnimations.get(i);
+            if (animation.hasEnded() || running.get(i).getView().getAnimation() != animation) {
+                int last = running.size() - 1;
+                running.set(i, running.get(last));
+                runningAnimations.set(i, runningAnimations.get(last));
+                running.remove(last);
+                runningAnimations.remove(last);
+            }
+        }
+    }
+
+    /**
+     * Attached and laid out view which has no visible part in the window.
+     * Views bound before attaching, like RecyclerView items, are not offscreen yet
+     */
+    private boolean isOffscreen(View view) {
+        if (view.getWindowToken() == null || (view.getWidth() == 0 && view.getHeight() == 0)) {
+            return false;
+        }
+        return !view.isShown() || !view.getGlobalVisibleRect(visibleRect);
+    }
+
+    private void recycle(Request request) {
+        request.state = null;
+        request.animation = null;
+        request.listener = null;
+        request.extra = null;
+        freeRequests.add(request);
+    }
+
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.AlphaAnimation;
+import android.view.animation.Animation;
+import android.view.animation.Interpolator;
+import android.view.animation.RotateAnimation;
+import android.view.animation.ScaleAnimation;
+import android.view.animation.TranslateAnimation;
+
+/**
+ * Immutable description of an animation, built and validated once
+ * and then applied to any number of views.
+ * Common parameters are captured when the spec is built,
+ * so applying it does no configuration lookups.
+ */
+public final class AnimationSpec {
+
+    static final int TRANSLATE = 0;
+    static final int ALPHA = 1;
+    static final int SCALE = 2;
+    static final int ROTATE = 3;
+
+    final int type;
+    final int factory;
+    // Values in the order of the AnimationFactory method of the type
+    final float from0, to0, from1, to1;
+    final int relation0, relation1, relation2, relation3;
+    final float pivotX, pivotY;
+
+    final int duration;
+    final boolean fillAfter;
+    final boolean fillBefore;
+    final Interpolator interpolator;
+    final Animation.AnimationListener listener;
+    final boolean hardwareLayer;
+    final boolean retarget;
+    final boolean coalesce;
+    final boolean commitEnd;
+    final Animus.Metrics.Sink metricsSink;
+    // Instance the builder came from, null for static Animus. Tracks created animations and animated views
+    final Animus.Instance owner;
+
+    private AnimationSpec(Builder builder) {
+        type = builder.type;
+        factory = builder.factory;
+        from0 = builder.from0;
+        to0 = builder.to0;
+        from1 = builder.from1;
+        to1 = builder.to1;
+        relation0 = builder.relation0;
+        relation1 = builder.relation1;
+        relation2 = builder.relation2;
+        relation3 = builder.relation3;
+        pivotX = builder.pivotX;
+        pivotY = builder.pivotY;
+        duration = builder.duration;
+        fillAfter = builder.fillAfter;
+        fillBefore = builder.fillBefore;
+        interpolator = builder.interpolator;
+        listener = builder.listener;
+        hardwareLayer = builder.hardwareLayer;
+        retarget = builder.retarget;
+        coalesce = builder.coalesce;
+        commitEnd = builder.commitEnd;
+        metricsSink = builder.metricsSink;
+        owner = builder.owner;
+    }
+
+    /**
+     * Create new animation of the spec, pooled one in pooled mode
+     *
+     * @return Animation ready to start
+     */
+    public Animation create() {
+        Animation animation;
+        switch (type) {
+            case TRANSLATE: {
+                animation = AnimationFactory.translate(factory, relation0, from0, relation1, to0, relation2, from1, relation3, to1);
+                break;
+            }
+            case ALPHA: {
+                animation = AnimationFactory.alpha(factory, from0, to0);
+                break;
+            }
+            case SCALE: {
+                animation = AnimationFactory.scale(factory, from0, to0, from1, to1, relation0, pivotX, relation1, pivotY);
+                break;
+            }
+            default: {
+                animation = AnimationFactory.rotate(factory, from0, to0, relation0, pivotX, relation1, pivotY);
+                break;
+            }
+        }
+
+        animation.setDuration(duration);
+        animation.setFillAfter(fillAfter);
+        animation.setFillBefore(fillBefore);
+        animation.setFillEnabled(fillBefore);
+        animation.setInterpolator(interpolator);
+        animation.setAnimationListener(MetricsRecorder.listenerFor(animation, listener, metricsSink));
+        if (owner != null) {
+            owner.track(animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Create plain animation of the spec as a child of AnimationSet. Pooled animations are not used,
+     * they would be released when the child ends while the set still holds it
+     *
+     * @return Animation without interpolator and listener
+     */
+    Animation createChild() {
+        Animation animation;
+        switch (type) {
+            case TRANSLATE: {
+                animation = new TranslateAnimation(relation0, from0, relation1, to0, relation2, from1, relation3, to1);
+                break;
+            }
+            case ALPHA: {
+                animation = new AlphaAnimation(from0, to0);
+                break;
+            }
+            case SCALE: {
+                animation = new ScaleAnimation(from0, to0, from1, to1, relation0, pivotX, relation1, pivotY);
+                break;
+            }
+            default: {
+                animation = new RotateAnimation(from0, to0, relation0, pivotX, relation1, pivotY);
+                break;
+            }
+        }
+        animation.setDuration(duration);
+        return animation;
+    }
+
+    /**
+     * Start the spec on the view. The finished animation of the same spec
+     * left on the view is restarted instead of creating a new one
+     *
+     * @param view View to animate
+     */
+    public void applyTo(View view) {
+        ViewState state = ViewState.of(view);
+        Animation animation = state.reusableAnimation(this);
+        if (animation == null) {
+            animation = create();
+        }
+        else {
+            animation.reset();
+        }
+        if (owner != null) {
+            owner.track(view);
+        }
+        state.start(animation, this, MetricsRecorder.listenerFor(animation, listener, metricsSink), null, hardwareLayer, retarget,
+                coalesce, commitEnd);
+    }
+
+    /**
+     * Returns duration of the animation
+     *
+     * @return duration in milliseconds
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns whether the animation applies its transformation after it ends
+     *
+     * @return fillAfter value
+     */
+    public boolean isFillAfter() {
+        return fillAfter;
+    }
+
+    /**
+     * Returns interpolator of the animation
+     *
+     * @return Interpolator
+     */
+    public Interpolator getInterpolator() {
+        return interpolator;
+    }
+
+    /**
+     * Builder of AnimationSpec, created by Animus.spec or Animus.Instance.spec
+     * with common parameters of static Animus or the instance
+     */
+    public static final class Builder {
+
+        private int type = -1;
+        private int factory;
+        private float from0, to0, from1, to1;
+        private int relation0, relation1, relation2, relation3;
+        private float pivotX, pivotY;
+
+        private int duration = -1;
+        private boolean fillAfter;
+        private boolean fillBefore;
+        private Interpolator interpolator;
+        private Animation.AnimationListener listener;
+        private boolean hardwareLayer;
+        private boolean retarget;
+        private boolean coalesce;
+        private boolean commitEnd;
+        private Animus.Metrics.Sink metricsSink;
+        private final Animus.Instance owner;
+
+        Builder(Interpolator interpolator, Animation.AnimationListener listener, boolean fillBefore,
+                boolean hardwareLayer, boolean retarget, boolean coalesce,
+                boolean commitEnd, Animus.Metrics.Sink metricsSink, Animus.Instance owner) {
+            this.interpolator = interpolator;
+            this.listener = listener;
+            this.fillBefore = fillBefore;
+            this.hardwareLayer = hardwareLayer;
+            this.retarget = retarget;
+            this.coalesce = coalesce;
+            this.commitEnd = commitEnd;
+            this.metricsSink = metricsSink;
+            this.owner = owner;
+        }
+
+        /**
+         * Animate moving with custom parameters
+         *
+         * @param fx staring horizontal factor
+         * @param fxRelation specifies how fx should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF, or Animation.RELATIVE_TO_PARENT.
+         * @param tx ending horizontal factor
+         * @param txRelation specifies how tx should be interpreted
+         * @param fy starting vertical factor
+         * @param fyRelation specifies how fy should be interpreted
+         * @param ty ending vertical factor
+         * @param tyRelation specifies how ty should be interpreted
+         * @return This builder
+         */
+        public Builder move(float fx, int fxRelation, float tx, int txRelation,
+                            float fy, int fyRelation, float ty, int tyRelation) {
+            type = TRANSLATE;
+            factory = AnimationFactory.MOVE_CUSTOM;
+            from0 = fx;
+            to0 = tx;
+            from1 = fy;
+            to1 = ty;
+            relation0 = fxRelation;
+            relation1 = txRelation;
+            relation2 = fyRelation;
+            relation3 = tyRelation;
+            return this;
+        }
+
+        /**
+         * Animate moving with custom parameters relative to self
+         *
+         * @param fx staring horizontal factor
+         * @param tx ending horizontal factor
+         * @param fy starting vertical factor
+         * @param ty ending vertical factor
+         * @return This builder
+         */
+        public Builder move(float fx, float tx, float fy, float ty) {
+            move(fx, Animation.RELATIVE_TO_SELF, tx, Animation.RELATIVE_TO_SELF,
+                    fy, Animation.RELATIVE_TO_SELF, ty, Animation.RELATIVE_TO_SELF);
+            factory = AnimationFactory.MOVE;
+            return this;
+        }
+
+        /**
+         * Animate opacity changing
+         *
+         * @param startingOpacity opacity at the start of animation
+         * @param endingOpacity opacity at the end of animation
+         * @return This builder
+         */
+        public Builder alpha(float startingOpacity, float endingOpacity) {
+            type = ALPHA;
+            factory = AnimationFactory.ALPHA;
+            from0 = startingOpacity;
+            to0 = endingOpacity;
+            return this;
+        }
+
+        /**
+         * Animate scale with custom parameters
+         *
+         * @param fx horizontal factor at start of animation
+         * @param tx horizontal factor at the end
+         * @param fy vertical factor at start of animation
+         * @param ty vertical factor at the and
+         * @param pivotX pivot horizontal position
+         * @param pivotXRelation specifies how pivotX should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param pivotY pivot vertical position
+         * @param pivotYRelation specifies how pivotY should be interpreted
+         * @return This builder
+         */
+        public Builder scale(float fx, float tx, float fy, float ty,
+                             float pivotX, int pivotXRelation, float pivotY, int pivotYRelation) {
+            type = SCALE;
+            factory = AnimationFactory.SCALE_CUSTOM;
+            from0 = fx;
+            to0 = tx;
+            from1 = fy;
+            to1 = ty;
+            this.pivotX = pivotX;
+            this.pivotY = pivotY;
+            relation0 = pivotXRelation;
+            relation1 = pivotYRelation;
+            return this;
+        }
+
+        /**
+         * Animate rotation with custom parameters
+         *
+         * @param fd starting degrees
+         * @param td ending degrees
+         * @param pivotX horizontal pivot position
+         * @param pivotXRelation specifies how pivotX should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param pivotY vertical pivot position
+         * @param pivotYRelation specifies how pivotY should be interpreted
+         * @return This builder
+         */
+        public Builder rotate(float fd, float td, float pivotX, int pivotXRelation, float pivotY, int pivotYRelation) {
+            type = ROTATE;
+            factory = AnimationFactory.ROTATE_CUSTOM;
+            from0 = fd;
+            to0 = td;
+            this.pivotX = pivotX;
+            this.pivotY = pivotY;
+            relation0 = pivotXRelation;
+            relation1 = pivotYRelation;
+            return this;
+        }
+
+        /**
+         * Set duration of the animation
+         *
+         * @param duration duration in milliseconds
+         * @return This builder
+         */
+        public Builder duration(int duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Set fillAfter parameter of the animation
+         *
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return This builder
+         */
+        public Builder fillAfter(boolean fillAfter) {
+            this.fillAfter = fillAfter;
+            return this;
+        }
+
+        /**
+         * Set fillBefore parameter of the animation instead of the common one
+         *
+         * @param fillBefore fillBefore parameter
+         * @return This builder
+         */
+        public Builder fillBefore(boolean fillBefore) {
+            this.fillBefore = fillBefore;
+            return this;
+        }
+
+        /**
+         * Set interpolator of the animation instead of the common one
+         *
+         * @param interpolator Interpolator
+         * @return This builder
+         */
+        public Builder interpolator(Interpolator interpolator) {
+            this.interpolator = interpolator;
+            return this;
+        }
+
+        /**
+         * Set listener of the animation instead of the common one
+         *
+         * @param listener AnimationListener, can be null
+         * @return This builder
+         */
+        public Builder listener(Animation.AnimationListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Set hardware layer parameter instead of the common one
+         *
+         * @param hardwareLayer true to render the view into hardware layer while the animation runs
+         * @return This builder
+         */
+        public Builder hardwareLayer(boolean hardwareLayer) {
+            this.hardwareLayer = hardwareLayer;
+            return this;
+        }
+
+        /**
+         * Set retarget parameter instead of the common one, see Animus.setCommonRetarget
+         *
+         * @param retarget true to continue from the transformation of the animation running on the view
+         * @return This builder
+         */
+        public Builder retarget(boolean retarget) {
+            this.retarget = retarget;
+            return this;
+        }
+
+        /**
+         * Set coalesce parameter instead of the common one, see Animus.setCommonCoalesce
+         *
+         * @param coalesce true to skip applying while the same request is active or already satisfied
+         * @return This builder
+         */
+        public Builder coalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+            return this;
+        }
+
+        /**
+         * Set commit end parameter instead of the common one, see Animus.setCommonCommitEnd
+         *
+         * @param commitEnd true to write the end of the animation with fillAfter to view properties
+         * @return This builder
+         */
+        public Builder commitEnd(boolean commitEnd) {
+            this.commitEnd = commitEnd;
+            return this;
+        }
+
+        /**
+         * Validate parameters and build the spec
+         *
+         * @return New AnimationSpec
+         * @throws IllegalStateException if the animation or its duration is not set
+         *         or a parameter is out of range
+         */
+        public AnimationSpec build() {
+            if (type < 0) {
+                throw new IllegalStateException("Animation is not set, call move, alpha, scale or rotate");
+            }
+            if (duration < 0) {
+                throw new IllegalStateException("Duration is not set or negative: " + duration);
+            }
+            if (interpolator == null) {
+                throw new IllegalStateException("Interpolator must not be null");
+            }
+            checkRelation(relation0);
+            checkRelation(relation1);
+            if (type == TRANSLATE) {
+                checkRelation(relation2);
+                checkRelation(relation3);
+            }
+            else if (type == ALPHA && (from0 < 0 || from0 > 1 || to0 < 0 || to0 > 1)) {
+                throw new IllegalStateException("Opacity must be from 0 to 1: " + from0 + ", " + to0);
+            }
+            return new AnimationSpec(this);
+        }
+
+        private static void checkRelation(int relation) {
+            if (relation != Animation.ABSOLUTE && relation != Animation.RELATIVE_TO_SELF
+                    && relation != Animation.RELATIVE_TO_PARENT) {
+                throw new IllegalStateException("Unknown relation type: " + relation);
+            }
+        }
+    }
+}
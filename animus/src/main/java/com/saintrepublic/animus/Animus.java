@@ -16,13 +16,16 @@ package com.saintrepublic.animus;
  * limitations under the License.
  */
 
+import android.app.Activity;
 import android.support.annotation.IntRange;
+import android.support.v4.app.Fragment;
 import android.support.v4.view.animation.FastOutLinearInInterpolator;
 import android.support.v4.view.animation.FastOutSlowInInterpolator;
 import android.support.v4.view.animation.LinearOutSlowInInterpolator;
+import android.view.View;
+import android.view.ViewPropertyAnimator;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.AccelerateInterpolator;
-import android.view.animation.AlphaAnimation;
 import android.view.animation.Animation;
 import android.view.animation.AnticipateInterpolator;
 import android.view.animation.AnticipateOvershootInterpolator;
@@ -32,9 +35,10 @@ import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
 import android.view.animation.LinearInterpolator;
 import android.view.animation.OvershootInterpolator;
-import android.view.animation.RotateAnimation;
-import android.view.animation.ScaleAnimation;
-import android.view.animation.TranslateAnimation;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Animus {
 
@@ -53,12 +57,73 @@ public class Animus {
     //==================================== Static part =============================================
     //=====================================           ==============================================
 
-    // Common interpolator for animations
-    private static Interpolator cInterpolator = new LinearInterpolator();
-    // Common AnimationListener for animations
-    private static Animation.AnimationListener cListener;
-    // Common fillBefore parameter for animations
-    private static boolean isFillBefore = true;
+    // Common AnimationListeners, referenced by the config while not empty
+    private static final AnimationListeners cListeners = new AnimationListeners();
+
+    // Common parameters for animations, replaced as a whole on every change
+    private static final AtomicReference<Config> cConfig = new AtomicReference<>(
+            new Config(Interpolators.get(Interpolation.LINEAR), null, true, false, false, false, false));
+
+    /**
+     * Immutable snapshot of common parameters. Factories read it once,
+     * so animations prebuilt on background threads never see a half-applied change
+     */
+    private static final class Config {
+
+        // Common interpolator for animations
+        final Interpolator interpolator;
+        // Common AnimationListener for animations
+        final Animation.AnimationListener listener;
+        // Common fillBefore parameter for animations
+        final boolean fillBefore;
+        // Common hardware layer parameter for animations started via start
+        final boolean hardwareLayer;
+        // Common retarget parameter for animations started via start
+        final boolean retarget;
+        // Common coalesce parameter for animations started via start
+        final boolean coalesce;
+        // Common commit end parameter for animations started via start
+        final boolean commitEnd;
+
+        Config(Interpolator interpolator, Animation.AnimationListener listener, boolean fillBefore,
+               boolean hardwareLayer, boolean retarget, boolean coalesce, boolean commitEnd) {
+            this.interpolator = interpolator;
+            this.listener = listener;
+            this.fillBefore = fillBefore;
+            this.hardwareLayer = hardwareLayer;
+            this.retarget = retarget;
+            this.coalesce = coalesce;
+            this.commitEnd = commitEnd;
+        }
+
+        Config withInterpolator(Interpolator interpolator) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withListener(Animation.AnimationListener listener) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withFillBefore(boolean fillBefore) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withHardwareLayer(boolean hardwareLayer) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withRetarget(boolean retarget) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withCoalesce(boolean coalesce) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+
+        Config withCommitEnd(boolean commitEnd) {
+            return new Config(interpolator, listener, fillBefore, hardwareLayer, retarget, coalesce, commitEnd);
+        }
+    }
 
     /**
      * Types of animations interpolator
@@ -76,10 +141,48 @@ public class Animus {
         public final static int FASTOUT_LINEARIN = 9;
         public final static int FASTOUT_SLOWIN = 10;
         public final static int LINEAROUT_SLOWIN = 11;
+
+        /**
+         * Returns shared interpolator of the type baked into a lookup table
+         * with default error bound of 0.001
+         *
+         * @param interpolatorType Interpolator type
+         * @return Shared LookupTableInterpolator
+         */
+        public static Interpolator baked(@IntRange(from=0,to=11) int interpolatorType) {
+            return Interpolators.getBaked(interpolatorType);
+        }
+
+        /**
+         * Bake interpolator into a lookup table
+         *
+         * @param interpolator Interpolator to bake
+         * @param maxError Maximum deviation from the original curve
+         * @return New LookupTableInterpolator
+         */
+        public static LookupTableInterpolator baked(Interpolator interpolator, float maxError) {
+            return new LookupTableInterpolator(interpolator, maxError);
+        }
+    }
+
+    /**
+     * Factory of animations, like Animus.Move.From.bottom or a method of Animus.Instance
+     */
+    public interface Factory {
+
+        /**
+         * Create new animation
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return New animation
+         */
+        Animation create(int duration, boolean fillAfter);
     }
 
     /**
-     * Get new instance of Interpolator
+     * Get new instance of Interpolator.
+     * Interpolators are stateless, prefer the shared instance from getInterpolator
      *
      * @param interpolatorType Interpolator type
      * @return new Interpolator instance
@@ -102,13 +205,46 @@ public class Animus {
         }
     }
 
+    /**
+     * Get shared instance of Interpolator
+     *
+     * @param interpolatorType Interpolator type
+     * @return Shared Interpolator instance
+     */
+    public static Interpolator getInterpolator(@IntRange(from=0,to=11) int interpolatorType) {
+        return Interpolators.get(interpolatorType);
+    }
+
+    /**
+     * Get shared instance of parameterized Interpolator
+     *
+     * @param interpolatorType Interpolator type
+     * @param parameter Factor for ACCELERATE and DECELERATE,
+     *                  tension for ANTICIPATE, OVERSHOOT and ANTICIPATE_OVERSHOOT,
+     *                  number of cycles for CYCLE, ignored by other types
+     * @return Shared Interpolator instance
+     */
+    public static Interpolator getInterpolator(@IntRange(from=0,to=11) int interpolatorType, float parameter) {
+        return Interpolators.get(interpolatorType, parameter);
+    }
+
     /**
      * Set default animations interpolator
      *
      * @param interpolatorType Type of interpolator
      */
     public static void setCommonInterpolator(@IntRange(from=0,to=11) int interpolatorType) {
-        cInterpolator = getNewInterpolator(interpolatorType);
+        setCommonInterpolator(Interpolators.get(interpolatorType));
+    }
+
+    /**
+     * Set default animations interpolator with parameter
+     *
+     * @param interpolatorType Type of interpolator
+     * @param parameter Interpolator parameter, see getInterpolator
+     */
+    public static void setCommonInterpolator(@IntRange(from=0,to=11) int interpolatorType, float parameter) {
+        setCommonInterpolator(Interpolators.get(interpolatorType, parameter));
     }
 
     /**
@@ -117,7 +253,10 @@ public class Animus {
      * @param interpolator Common interpolator
      */
     public static void setCommonInterpolator(Interpolator interpolator) {
-        cInterpolator = interpolator;
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withInterpolator(interpolator)));
     }
 
     /**
@@ -126,25 +265,76 @@ public class Animus {
      * @return Current common interpolator
      */
     public static Interpolator getCommonInterpolator() {
-        return cInterpolator;
+        return cConfig.get().interpolator;
     }
 
     /**
-     * Set default listener for all animations
+     * Set default listener for all animations, replacing all common listeners
      *
      * @param listener Common AnimationListener for animations
      */
     public static void setCommonAnimationListener(Animation.AnimationListener listener) {
-        cListener = listener;
+        synchronized (cListeners) {
+            cListeners.set(listener);
+            commonListenersChanged();
+        }
+    }
+
+    /**
+     * Add common listener for all animations. Listeners receive events in order of adding,
+     * animations created before receive events of the added listener too
+     *
+     * @param listener Additional common AnimationListener
+     */
+    public static void addCommonAnimationListener(Animation.AnimationListener listener) {
+        synchronized (cListeners) {
+            cListeners.add(listener);
+            commonListenersChanged();
+        }
+    }
+
+    /**
+     * Remove common listener added by setCommonAnimationListener or addCommonAnimationListener
+     *
+     * @param listener Common AnimationListener to remove
+     */
+    public static void removeCommonAnimationListener(Animation.AnimationListener listener) {
+        synchronized (cListeners) {
+            cListeners.remove(listener);
+            commonListenersChanged();
+        }
+    }
+
+    /**
+     * Animations reference common listeners only while there is a listener
+     */
+    private static void commonListenersChanged() {
+        Animation.AnimationListener listener = cListeners.isEmpty() ? null : cListeners;
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withListener(listener)));
+    }
+
+    /**
+     * Set default listener for all animations, held by weak reference.
+     * Static Animus and animations don't keep the listener reachable,
+     * so an Activity or its inner class can be the listener without leaking the Activity.
+     * The listener must be referenced by its owner, otherwise it is collected and events are dropped
+     *
+     * @param listener Common AnimationListener for animations
+     */
+    public static void setCommonAnimationListenerWeak(Animation.AnimationListener listener) {
+        setCommonAnimationListener(listener != null ? new WeakAnimationListener(listener) : null);
     }
 
     /**
      * Returns current common AnimationListener
      *
-     * @return Current common AnimationListener
+     * @return First common AnimationListener, null if the weak one was collected
      */
     public static Animation.AnimationListener getCommonAnimationListener() {
-        return cListener;
+        return cListeners.first();
     }
 
     /**
@@ -153,7 +343,10 @@ public class Animus {
      * @param fillBefore  Common fillBefore parameter for animations
      */
     public static void setCommonFillBefore(boolean fillBefore) {
-        isFillBefore = fillBefore;
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withFillBefore(fillBefore)));
     }
 
     /**
@@ -162,106 +355,515 @@ public class Animus {
      * @return Current common FillBefore value
      */
     public static boolean isCommonFillBefore() {
-        return isFillBefore;
+        return cConfig.get().fillBefore;
+    }
+
+    /**
+     * Render the view into hardware layer while its animation started via start runs,
+     * previous layer type of the view is restored when the animation ends.
+     * Fading or scaling large hierarchies then composites a texture instead of redrawing them
+     *
+     * @param hardwareLayer Common hardware layer parameter for animations
+     */
+    public static void setCommonHardwareLayer(boolean hardwareLayer) {
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withHardwareLayer(hardwareLayer)));
+    }
+
+    /**
+     * Returns current common hardware layer parameter
+     *
+     * @return Current common hardware layer value
+     */
+    public static boolean isCommonHardwareLayer() {
+        return cConfig.get().hardwareLayer;
+    }
+
+    /**
+     * Continue from the current transformation when an animation is started via start
+     * while the previous one still moves the view or holds its end after fillAfter.
+     * New animation then goes from where the view is to its own end
+     * and its duration is shortened to the remaining distance, so rapid toggles don't jump
+     *
+     * @param retarget Common retarget parameter for animations
+     */
+    public static void setCommonRetarget(boolean retarget) {
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withRetarget(retarget)));
+    }
+
+    /**
+     * Returns current common retarget parameter
+     *
+     * @return Current common retarget value
+     */
+    public static boolean isCommonRetarget() {
+        return cConfig.get().retarget;
+    }
+
+    /**
+     * Coalesce redundant requests when an animation is started via start.
+     * Request identical to the animation which runs on the view or holds its end is dropped,
+     * as well as the repeated request whose end state the view already has, like Alpha.show after Alpha.show.
+     * Other requests continue from the current transformation like with setCommonRetarget
+     *
+     * @param coalesce Common coalesce parameter for animations
+     */
+    public static void setCommonCoalesce(boolean coalesce) {
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withCoalesce(coalesce)));
+    }
+
+    /**
+     * Returns current common coalesce parameter
+     *
+     * @return Current common coalesce value
+     */
+    public static boolean isCommonCoalesce() {
+        return cConfig.get().coalesce;
+    }
+
+    /**
+     * Write the end of animations with fillAfter started via start to real view properties:
+     * translation, scale, rotation and alpha, then clear the animation from the view.
+     * The view is not transformed on every draw anymore and touches hit its new bounds.
+     * Next animations start from the committed state
+     *
+     * @param commitEnd Common commit end parameter for animations
+     */
+    public static void setCommonCommitEnd(boolean commitEnd) {
+        Config config;
+        do {
+            config = cConfig.get();
+        } while (!cConfig.compareAndSet(config, config.withCommitEnd(commitEnd)));
+    }
+
+    /**
+     * Returns current common commit end parameter
+     *
+     * @return Current common commit end value
+     */
+    public static boolean isCommonCommitEnd() {
+        return cConfig.get().commitEnd;
+    }
+
+    /**
+     * Start the animation on the view, applying common parameters which need the view.
+     * Common AnimationListener receives the animation events,
+     * listener set on the animation itself is replaced
+     *
+     * @param view View to animate
+     * @param animation Animation, usually from Animus factories
+     */
+    public static void start(View view, Animation animation) {
+        start(view, animation, null);
+    }
+
+    /**
+     * Start the animation on the view with own listener receiving events after common listeners.
+     * The listener gets the end also if the request is coalesced or replaced by the next animation of the view.
+     * Nothing is allocated for the listener
+     *
+     * @param view View to animate
+     * @param animation Animation, usually from Animus factories
+     * @param listener Listener of this animation, can be null
+     */
+    public static void start(View view, Animation animation, Animation.AnimationListener listener) {
+        Config config = cConfig.get();
+        Animation.AnimationListener common = MetricsRecorder.listenerFor(animation, config.listener, MetricsRecorder.getStaticSink());
+        ViewState.of(view).start(animation, null, common, listener, config.hardwareLayer, config.retarget,
+                config.coalesce, config.commitEnd);
+    }
+
+    /**
+     * Returns animation started on the view via Animus which runs, waits for its first frame
+     * or holds its end after fillAfter
+     *
+     * @param view View to check
+     * @return Active animation or null
+     */
+    public static Animation getActiveAnimation(View view) {
+        ViewState state = ViewState.peek(view);
+        return state != null ? state.getActiveAnimation() : null;
+    }
+
+    /**
+     * Create builder of reusable AnimationSpec with current common parameters.
+     * Build specs once, e.g. for a list adapter, and apply them in bind calls
+     *
+     * @return New AnimationSpec.Builder
+     */
+    public static AnimationSpec.Builder spec() {
+        Config config = cConfig.get();
+        return new AnimationSpec.Builder(config.interpolator, config.listener, config.fillBefore, config.hardwareLayer,
+                config.retarget, config.coalesce, config.commitEnd, MetricsRecorder.getStaticSink(), null);
+    }
+
+    /**
+     * Create builder of animation group running its children together, like fade and slide.
+     * Children share the common interpolator and listener
+     *
+     * @return New AnimationComposite.Builder
+     */
+    public static AnimationComposite.Builder parallel() {
+        Config config = cConfig.get();
+        return new AnimationComposite.Builder(false, config.interpolator, config.listener, config.fillBefore,
+                config.hardwareLayer, config.retarget, config.coalesce, config.commitEnd, MetricsRecorder.getStaticSink(), null);
+    }
+
+    /**
+     * Create builder of animation group running its children one after another.
+     * Children share the common interpolator and listener
+     *
+     * @return New AnimationComposite.Builder
+     */
+    public static AnimationComposite.Builder sequential() {
+        Config config = cConfig.get();
+        return new AnimationComposite.Builder(true, config.interpolator, config.listener, config.fillBefore,
+                config.hardwareLayer, config.retarget, config.coalesce, config.commitEnd, MetricsRecorder.getStaticSink(), null);
     }
 
     private static Animation setDefaults(Animation animation, int duration, boolean fillAfter) {
+        Config config = cConfig.get();
         animation.setDuration(duration);
         animation.setFillAfter(fillAfter);
-        animation.setFillBefore(isFillBefore);
-        animation.setFillEnabled(isFillBefore);
-        animation.setInterpolator(cInterpolator);
-        animation.setAnimationListener(cListener);
+        animation.setFillBefore(config.fillBefore);
+        animation.setFillEnabled(config.fillBefore);
+        animation.setInterpolator(config.interpolator);
+        animation.setAnimationListener(MetricsRecorder.listenerFor(animation, config.listener, MetricsRecorder.getStaticSink()));
         return animation;
     }
 
-    public static class Move {
+    /**
+     * Frame timing of animations created by Animus factories.
+     * While a sink is set, every animation of static Animus reports its frame intervals,
+     * dropped frames, start latency from the factory call to the first frame and wall time
+     * when it ends. Animus.Instance has its own sink. Without sinks nothing is measured or allocated
+     */
+    public static class Metrics {
 
-        public static class To {
+        /**
+         * Receiver of animation metrics, called on the main thread when an animation ends
+         */
+        public interface Sink {
 
             /**
-             * Animate moving to the left of self
+             * Called when a measured animation ends
              *
-             * @param duration duration in milliseconds
-             * @param fillAfter true if the animation should apply its transformation after it ends
-             * @return TranslateAnimation
+             * @param metrics Metrics of the animation
              */
-            static public Animation left(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, -1.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f);
+            void onAnimationMetrics(AnimationMetrics metrics);
+        }
 
-                return setDefaults(animation, duration, fillAfter);
-            }
+        /**
+         * Set sink of static Animus animations
+         *
+         * @param sink Sink or null to stop measuring
+         */
+        public static void setSink(Sink sink) {
+            MetricsRecorder.setStaticSink(sink);
+        }
 
-            /**
-             * Animate moving to the right of self
-             *
-             * @param duration duration in milliseconds
-             * @param fillAfter true if the animation should apply its transformation after it ends
-             * @return TranslateAnimation
-             */
-            static public Animation right(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 1.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f);
+        /**
+         * Returns sink of static Animus animations
+         *
+         * @return Current sink or null
+         */
+        public static Sink getSink() {
+            return MetricsRecorder.getStaticSink();
+        }
 
-                return setDefaults(animation, duration, fillAfter);
-            }
+        /**
+         * Set expected interval between frames used to count dropped frames
+         *
+         * @param intervalNanos Frame interval in nanoseconds, 16666667 (60 fps) by default
+         */
+        public static void setFrameIntervalNanos(long intervalNanos) {
+            MetricsRecorder.setFrameIntervalNanos(intervalNanos);
+        }
 
-            /**
-             * Animate moving to the top of self
-             *
-             * @param duration duration in milliseconds
-             * @param fillAfter true if the animation should apply its transformation after it ends
-             * @return TranslateAnimation
-             */
-            static public Animation top(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, -1.0f);
+        /**
+         * Returns expected interval between frames
+         *
+         * @return Frame interval in nanoseconds
+         */
+        public static long getFrameIntervalNanos() {
+            return MetricsRecorder.getFrameIntervalNanos();
+        }
+    }
 
-                return setDefaults(animation, duration, fillAfter);
-            }
+    /**
+     * Adaptive quality of Animus.Instance animations. While frames are janky,
+     * instances with setAdaptiveQuality degrade animations they create with the enabled policies:
+     * durations are shortened and bouncing interpolators are replaced by decelerate one under moderate pressure,
+     * decorative alpha and scale animations are skipped to their end under heavy pressure.
+     * Frame pressure is measured with Choreographer around adaptive animations,
+     * the expected frame interval is Animus.Metrics one
+     */
+    public static class Quality {
 
-            /**
-             * Animate moving to the bottom of self
-             *
-             * @param duration duration in milliseconds
-             * @param fillAfter true if the animation should apply its transformation after it ends
-             * @return TranslateAnimation
-             */
-            static public Animation bottom(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 0.0f,
-                        Animation.RELATIVE_TO_SELF, 1.0f);
+        public final static int SHORTEN_DURATIONS = 1;
+        public final static int SIMPLE_INTERPOLATORS = 2;
+        public final static int SKIP_DECORATIVE = 4;
+        public final static int ALL = SHORTEN_DURATIONS | SIMPLE_INTERPOLATORS | SKIP_DECORATIVE;
 
-                return setDefaults(animation, duration, fillAfter);
-            }
+        public final static int PRESSURE_NONE = AdaptiveQuality.PRESSURE_NONE;
+        public final static int PRESSURE_MODERATE = AdaptiveQuality.PRESSURE_MODERATE;
+        public final static int PRESSURE_HEAVY = AdaptiveQuality.PRESSURE_HEAVY;
 
-            public static class Parent {
+        /**
+         * Returns frame pressure measured recently
+         *
+         * @return One of pressure levels
+         */
+        public static int getPressure() {
+            return AdaptiveQuality.getPressure();
+        }
 
-                /**
-                 * Animate moving beyond the left bound of parent layout
-                 *
-                 * @param duration duration in milliseconds
-                 * @param fillAfter true if the animation should apply its transformation after it ends
-                 * @return TranslateAnimation
-                 */
-                static public Animation left(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
-                            Animation.RELATIVE_TO_SELF, 0.0f,
-                            Animation.RELATIVE_TO_PARENT, -1.0f,
-                            Animation.RELATIVE_TO_SELF, 0.0f,
-                            Animation.RELATIVE_TO_SELF, 0.0f);
+        /**
+         * Returns number of animations created with shortened duration
+         *
+         * @return Shortened animations count
+         */
+        public static long getShortenedCount() {
+            return AdaptiveQuality.getShortenedCount();
+        }
+
+        /**
+         * Returns number of animations created with replaced interpolator
+         *
+         * @return Simplified animations count
+         */
+        public static long getSimplifiedCount() {
+            return AdaptiveQuality.getSimplifiedCount();
+        }
+
+        /**
+         * Returns number of decorative animations skipped to their end
+         *
+         * @return Skipped animations count
+         */
+        public static long getSkippedCount() {
+            return AdaptiveQuality.getSkippedCount();
+        }
+
+        /**
+         * Reset all counters to zero
+         */
+        public static void resetCounters() {
+            AdaptiveQuality.resetCounters();
+        }
+    }
+
+    /**
+     * Pool of finished animations, shared by static Animus and all instances.
+     * In pooled mode animations which ended without fillAfter are returned to the pool
+     * and reused by the next call of the same factory with the same parameters,
+     * so such animations must not be kept and restarted after they end.
+     * Animations with fillAfter stay attached to the view and are returned via recycle.
+     */
+    public static class Pool {
+
+        /**
+         * Enable or disable pooled mode. Disabling clears the pool
+         *
+         * @param enabled True to reuse finished animations
+         */
+        public static void setEnabled(boolean enabled) {
+            AnimationPool.setEnabled(enabled);
+        }
+
+        /**
+         * Returns whether pooled mode is enabled
+         *
+         * @return True if finished animations are reused
+         */
+        public static boolean isEnabled() {
+            return AnimationPool.isEnabled();
+        }
+
+        /**
+         * Set maximum number of idle animations kept for every factory
+         *
+         * @param capacity Maximum idle animations per factory, 8 by default
+         */
+        public static void setCapacity(int capacity) {
+            AnimationPool.setCapacity(capacity);
+        }
+
+        /**
+         * Returns maximum number of idle animations kept for every factory
+         *
+         * @return Maximum idle animations per factory
+         */
+        public static int getCapacity() {
+            return AnimationPool.getCapacity();
+        }
+
+        /**
+         * Returns number of factory calls served by a pooled animation
+         *
+         * @return Pool hits since the last reset
+         */
+        public static long getHits() {
+            return AnimationPool.getHits();
+        }
+
+        /**
+         * Returns number of factory calls which had to allocate a new animation
+         *
+         * @return Pool misses since the last reset
+         */
+        public static long getMisses() {
+            return AnimationPool.getMisses();
+        }
+
+        /**
+         * Reset hit and miss counters
+         */
+        public static void resetCounters() {
+            AnimationPool.resetCounters();
+        }
+
+        /**
+         * Returns number of idle animations in the pool
+         *
+         * @return Idle animations count
+         */
+        public static int size() {
+            return AnimationPool.size();
+        }
+
+        /**
+         * Drop all idle animations
+         */
+        public static void clear() {
+            AnimationPool.clear();
+        }
+
+        /**
+         * Return an animation which is not running anymore to the pool
+         *
+         * @param animation Animation created in pooled mode
+         * @return True if the animation was returned to the pool
+         */
+        public static boolean recycle(Animation animation) {
+            if (animation == null || (animation.hasStarted() && !animation.hasEnded())) {
+                return false;
+            }
+            return AnimationPool.release(animation);
+        }
+
+        /**
+         * Clear finished animation of the view, like the one kept by fillAfter,
+         * and return it to the pool
+         *
+         * @param view View with pooled animation
+         * @return True if the animation was returned to the pool
+         */
+        public static boolean recycle(View view) {
+            Animation animation = view.getAnimation();
+            if (!AnimationPool.isPoolable(animation) || (animation.hasStarted() && !animation.hasEnded())) {
+                return false;
+            }
+            view.clearAnimation();
+            return AnimationPool.release(animation);
+        }
+    }
+
+    public static class Move {
+
+        public static class To {
+
+            /**
+             * Animate moving to the left of self
+             *
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the animation should apply its transformation after it ends
+             * @return TranslateAnimation
+             */
+            static public Animation left(int duration, boolean fillAfter){
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_LEFT,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, -1.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f);
+
+                return setDefaults(animation, duration, fillAfter);
+            }
+
+            /**
+             * Animate moving to the right of self
+             *
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the animation should apply its transformation after it ends
+             * @return TranslateAnimation
+             */
+            static public Animation right(int duration, boolean fillAfter){
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_RIGHT,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 1.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f);
+
+                return setDefaults(animation, duration, fillAfter);
+            }
+
+            /**
+             * Animate moving to the top of self
+             *
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the animation should apply its transformation after it ends
+             * @return TranslateAnimation
+             */
+            static public Animation top(int duration, boolean fillAfter){
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_TOP,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, -1.0f);
+
+                return setDefaults(animation, duration, fillAfter);
+            }
+
+            /**
+             * Animate moving to the bottom of self
+             *
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the animation should apply its transformation after it ends
+             * @return TranslateAnimation
+             */
+            static public Animation bottom(int duration, boolean fillAfter){
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_BOTTOM,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 0.0f,
+                        Animation.RELATIVE_TO_SELF, 1.0f);
+
+                return setDefaults(animation, duration, fillAfter);
+            }
+
+            public static class Parent {
+
+                /**
+                 * Animate moving beyond the left bound of parent layout
+                 *
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the animation should apply its transformation after it ends
+                 * @return TranslateAnimation
+                 */
+                static public Animation left(int duration, boolean fillAfter){
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_LEFT,
+                            Animation.RELATIVE_TO_SELF, 0.0f,
+                            Animation.RELATIVE_TO_PARENT, -1.0f,
+                            Animation.RELATIVE_TO_SELF, 0.0f,
+                            Animation.RELATIVE_TO_SELF, 0.0f);
 
                     return setDefaults(animation, duration, fillAfter);
                 }
@@ -274,7 +876,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation right(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_RIGHT,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_PARENT, 1.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
@@ -291,7 +893,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation top(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_TOP,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
@@ -309,7 +911,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation bottom(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_BOTTOM,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
@@ -330,7 +932,7 @@ public class Animus {
              * @return TranslateAnimation
              */
             static public Animation left(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_LEFT,
                         Animation.RELATIVE_TO_SELF, -1.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
@@ -347,7 +949,7 @@ public class Animus {
              * @return TranslateAnimation
              */
             static public Animation right(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_RIGHT,
                         Animation.RELATIVE_TO_SELF, 1.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
@@ -364,7 +966,7 @@ public class Animus {
              * @return TranslateAnimation
              */
             static public Animation top(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_TOP,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, -1.0f,
@@ -381,7 +983,7 @@ public class Animus {
              * @return TranslateAnimation
              */
             static public Animation bottom(int duration, boolean fillAfter){
-                Animation animation = new TranslateAnimation(
+                Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_BOTTOM,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, 0.0f,
                         Animation.RELATIVE_TO_SELF, 1.0f,
@@ -400,7 +1002,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation left(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_LEFT,
                             Animation.RELATIVE_TO_PARENT, -1.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
@@ -417,7 +1019,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation right(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_RIGHT,
                             Animation.RELATIVE_TO_PARENT, 1.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
                             Animation.RELATIVE_TO_SELF, 0.0f,
@@ -434,7 +1036,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation top(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_TOP,
                             Animation.RELATIVE_TO_PARENT, 0.0f,
                             Animation.RELATIVE_TO_PARENT, 0.0f,
                             Animation.RELATIVE_TO_PARENT, -1.0f,
@@ -451,7 +1053,7 @@ public class Animus {
                  * @return TranslateAnimation
                  */
                 static public Animation bottom(int duration, boolean fillAfter){
-                    Animation animation = new TranslateAnimation(
+                    Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_BOTTOM,
                             Animation.RELATIVE_TO_PARENT, 0.0f,
                             Animation.RELATIVE_TO_PARENT, 0.0f,
                             Animation.RELATIVE_TO_PARENT, 1.0f,
@@ -474,7 +1076,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         static public Animation move(float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE,
                     Animation.RELATIVE_TO_SELF, fx,
                     Animation.RELATIVE_TO_SELF, tx,
                     Animation.RELATIVE_TO_SELF, fy,
@@ -495,7 +1097,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         static public Animation moveToParent(float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT,
                     Animation.RELATIVE_TO_PARENT, fx,
                     Animation.RELATIVE_TO_PARENT, tx,
                     Animation.RELATIVE_TO_PARENT, fy,
@@ -518,7 +1120,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         static public Animation moveFromSelfToParent(float fromSelfX, float toParentX, float fromSelfY, float toParentY, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_SELF_TO_PARENT,
                     Animation.RELATIVE_TO_SELF, fromSelfX,
                     Animation.RELATIVE_TO_PARENT, toParentX,
                     Animation.RELATIVE_TO_SELF, fromSelfY,
@@ -541,7 +1143,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         static public Animation moveFromParentToSelf(float fromParentX, float toSelfX, float fromParentY, float toSelfY, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_TO_SELF,
                     Animation.RELATIVE_TO_PARENT, fromParentX,
                     Animation.RELATIVE_TO_SELF, toSelfX,
                     Animation.RELATIVE_TO_PARENT, fromParentY,
@@ -572,7 +1174,7 @@ public class Animus {
         static public Animation custom(float fx, int fxRelation, float tx, int txRelation,
                                        float fy, int fyRelation, float ty, int tyRelation, int duration, boolean fillAfter) {
 
-            Animation animation = new TranslateAnimation(fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_CUSTOM, fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
             return setDefaults(animation, duration, fillAfter);
         }
     }
@@ -587,7 +1189,7 @@ public class Animus {
          * @return Alpha animation
          */
         static public Animation hide(int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(1.0f, 0.0f);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE, 1.0f, 0.0f);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -599,7 +1201,7 @@ public class Animus {
          * @return Alpha animation
          */
         static public Animation show(int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(0.0f, 1.0f);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_SHOW, 0.0f, 1.0f);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -613,9 +1215,47 @@ public class Animus {
          * @return AlphaAnimation
          */
         static public Animation alpha(int startingOpacity, int endingOpacity, int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(startingOpacity, endingOpacity);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA, startingOpacity, endingOpacity);
             return setDefaults(animation, duration, fillAfter);
         }
+
+        /**
+         * Animate visibility changing from visible to invisible, then set visibility of the view to GONE.
+         * The view stops taking part in layout, drawing and touches.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        static public Animation hideGone(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE_GONE, 1.0f, 0.0f);
+            return setDefaults(animation, duration, true);
+        }
+
+        /**
+         * Animate visibility changing from visible to invisible, then set visibility of the view to INVISIBLE.
+         * The view keeps its place in layout, but is not drawn and doesn't receive touches.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        static public Animation hideInvisible(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE_INVISIBLE, 1.0f, 0.0f);
+            return setDefaults(animation, duration, true);
+        }
+
+        /**
+         * Set visibility of the view to VISIBLE and animate visibility changing from invisible to visible.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        static public Animation showVisible(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_SHOW_VISIBLE, 0.0f, 1.0f);
+            return setDefaults(animation, duration, false);
+        }
     }
 
     public static class Scale {
@@ -634,7 +1274,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         static public Animation scale(float fx, float tx, float fy, float ty, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(fx, tx, fy, ty, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE, fx, tx, fy, ty, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -646,7 +1286,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         static public Animation from0to1(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(0.0f, 1.0f, 0.0f, 1.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_0_TO_1, 0.0f, 1.0f, 0.0f, 1.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -659,7 +1299,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         static public Animation from1to0(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 0.0f, 1.0f, 0.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_1_TO_0, 1.0f, 0.0f, 1.0f, 0.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -672,7 +1312,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         static public Animation from1to2(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 2.0f, 1.0f, 2.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_1_TO_2, 1.0f, 2.0f, 1.0f, 2.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -685,203 +1325,1576 @@ public class Animus {
          * @return ScaleAnimation
          */
         static public Animation from2to1(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 2.0f, 1.0f, 2.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_2_TO_1, 1.0f, 2.0f, 1.0f, 2.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
 
         /**
-         * Animate scale with custom parameters
+         * Animate scale with custom parameters
+         *
+         * @param fx horizontal factor at start of animation
+         * @param tx horizontal factor at the end
+         * @param fy vertical factor at start of animation
+         * @param ty vertical factor at the and
+         * @param pivotX pivot horizontal position
+         * @param pivotXRelation specifies how pivotX should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param pivotY pivot vertical position
+         * @param pivotYRelation specifies how pivotY should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return ScaleAnimation
+         */
+        static public Animation custom(float fx, float tx, float fy, float ty, float pivotX, int pivotXRelation, float pivotY, int pivotYRelation, int duration, boolean fillAfter) {
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_CUSTOM, fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            return setDefaults(animation, duration, fillAfter);
+        }
+    }
+
+    public static class Rotate {
+
+        /**
+         * Animate rotation with custom parameters with pivot relative to self
+         *
+         * @param fd starting degrees
+         * @param td ending degrees
+         * @param pivotX horizontal pivot position relative to self
+         * @param pivotY vertical pivot position relative to self
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return RotateAnimation
+         */
+        static public Animation relativeToSelf(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_RELATIVE_TO_SELF, fd, td, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate rotation with custom parameters with pivot relative to parent layout
+         *
+         * @param fd starting degrees
+         * @param td ending degrees
+         * @param pivotX horizontal pivot position relative to parent
+         * @param pivotY vertical pivot position relative to parent
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return RotateAnimation
+         */
+        static public Animation relativeToParent(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_RELATIVE_TO_PARENT, fd, td, Animation.RELATIVE_TO_PARENT, pivotX, Animation.RELATIVE_TO_PARENT, pivotY);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate rotation with custom parameters
+         *
+         * @param fd starting degrees
+         * @param td ending degrees
+         * @param pivotX horizontal pivot position relative to self
+         * @param pivotXRelation specifies how pivotX should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param pivotY vertical pivot position relative to self
+         * @param pivotYRelation specifies how pivotY should be interpreted. One of
+         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return RotateAnimation
+         */
+        static public Animation custom(float fd, float td, float pivotX, int pivotXRelation,
+                                       float pivotY, int pivotYRelation, int duration, boolean fillAfter) {
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_CUSTOM, fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            return setDefaults(animation, duration, fillAfter);
+        }
+    }
+
+    //=================================                    =========================================
+    /**
+     * Multi-stage animations: every property has values at keyframe times from 0 to 1.
+     * One animation replaces chains of animations started from listeners
+     */
+    public static class Keyframe {
+
+        private static final float[] SHAKE_TIMES = {0f, 0.125f, 0.375f, 0.625f, 0.875f, 1f};
+        private static final float[] SHAKE_VALUES = {0f, -0.1f, 0.1f, -0.1f, 0.1f, 0f};
+        private static final float[] BOUNCE_TIMES = {0f, 0.3f, 0.5f, 0.7f, 0.85f, 1f};
+        private static final float[] BOUNCE_VALUES = {1f, 1.2f, 0.9f, 1.05f, 0.98f, 1f};
+
+        /**
+         * Animation without tracks, set them with KeyframeAnimation methods
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public KeyframeAnimation custom(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_CUSTOM);
+            return (KeyframeAnimation) setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate horizontal moving through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values horizontal factors relative to self at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation moveX(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_MOVE_X);
+            animation.setTranslationX(Animation.RELATIVE_TO_SELF, times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate vertical moving through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values vertical factors relative to self at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation moveY(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_MOVE_Y);
+            animation.setTranslationY(Animation.RELATIVE_TO_SELF, times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate scale through keyframes with pivot in the center of the view
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values scale factors at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation scale(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_SCALE);
+            animation.setScaleX(times, values).setScaleY(times, values)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate rotation through keyframes with pivot in the center of the view
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values degrees at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation rotate(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_ROTATE);
+            animation.setRotation(times, values)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate opacity through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values opacity at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation alpha(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_ALPHA);
+            animation.setAlpha(times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Shake the view horizontally and return it to place
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation shake(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_SHAKE);
+            animation.setTranslationX(Animation.RELATIVE_TO_SELF, SHAKE_TIMES, SHAKE_VALUES);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Bounce the view in place by scaling it around its center
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        static public Animation bounce(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_BOUNCE);
+            animation.setScaleX(BOUNCE_TIMES, BOUNCE_VALUES).setScaleY(BOUNCE_TIMES, BOUNCE_VALUES)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
+            return setDefaults(animation, duration, fillAfter);
+        }
+    }
+
+    //================================ ViewPropertyAnimator ========================================
+    //=================================                    =========================================
+
+    /**
+     * Animations of real view properties with ViewPropertyAnimator.
+     * Same factories as the ones of static Animus, but they take the animated view,
+     * start immediately and run with a hardware layer, so translation, alpha, scale and rotation
+     * are composited on RenderThread and stay smooth when the main thread is busy.
+     * Relative values are resolved from the current view and parent size, so the view must be laid out.
+     * Without fillAfter the view gets back the property values it had before the animation,
+     * also when another ViewProperty animation interrupts it.
+     * Common interpolator of static Animus is used, common AnimationListener is not.
+     */
+    public static class ViewProperty {
+
+        public static class Move {
+
+            public static class To {
+
+                /**
+                 * Animate moving to the left of self
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator left(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, -1.0f, true),
+                            0.0f, 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving to the right of self
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator right(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, 1.0f, true),
+                            0.0f, 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving to the top of self
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator top(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, 0.0f,
+                            0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, -1.0f, false),
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving to the bottom of self
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator bottom(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, 0.0f,
+                            0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, 1.0f, false),
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                public static class Parent {
+
+                    /**
+                     * Animate moving beyond the left bound of parent layout
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator left(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, -1.0f, true),
+                                0.0f, 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving beyond the right bound of parent layout
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator right(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, 1.0f, true),
+                                0.0f, 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving beyond the top bound of parent layout
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator top(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, 0.0f,
+                                0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, -1.0f, false),
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving beyond the bottom bound of parent layout
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator bottom(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, 0.0f,
+                                0.0f, PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, 1.0f, false),
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                }
+            }
+
+            public static class From {
+
+                /**
+                 * Animate moving from the left of self to default position
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator left(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, -1.0f, true), 0.0f,
+                            0.0f, 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving from the right of self to default position
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator right(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, 1.0f, true), 0.0f,
+                            0.0f, 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving from the top of self to default position
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator top(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, 0.0f,
+                            PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, -1.0f, false), 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                /**
+                 * Animate moving from the bottom of self to default position
+                 *
+                 * @param view animated view
+                 * @param duration duration in milliseconds
+                 * @param fillAfter true if the view should keep the final values after the animation ends
+                 * @return started ViewPropertyAnimator
+                 */
+                static public ViewPropertyAnimator bottom(View view, int duration, boolean fillAfter){
+                    return PropertyAnimations.translate(view,
+                            0.0f, 0.0f,
+                            PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, 1.0f, false), 0.0f,
+                            duration, fillAfter, getCommonInterpolator());
+                }
+
+                public static class Parent {
+
+                    /**
+                     * Animate moving from left of parent to default position
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator left(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, -1.0f, true), 0.0f,
+                                0.0f, 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving from right of parent to default position
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator right(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, 1.0f, true), 0.0f,
+                                0.0f, 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving from top of parent to default position
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator top(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, 0.0f,
+                                PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, -1.0f, false), 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                    /**
+                     * Animate moving from bottom of parent to default position
+                     *
+                     * @param view animated view
+                     * @param duration duration in milliseconds
+                     * @param fillAfter true if the view should keep the final values after the animation ends
+                     * @return started ViewPropertyAnimator
+                     */
+                    static public ViewPropertyAnimator bottom(View view, int duration, boolean fillAfter){
+                        return PropertyAnimations.translate(view,
+                                0.0f, 0.0f,
+                                PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, 1.0f, false), 0.0f,
+                                duration, fillAfter, getCommonInterpolator());
+                    }
+
+                }
+            }
+
+            /**
+             * Animate moving with custom parameters relative to self
+             *
+             * @param view animated view
+             * @param fx staring horizontal factor
+             * @param tx ending horizontal factor
+             * @param fy starting vertical factor
+             * @param ty ending vertical factor
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator move(View view, float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
+                return PropertyAnimations.translate(view,
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, fx, true), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, tx, true),
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, fy, false), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, ty, false),
+                        duration, fillAfter, getCommonInterpolator());
+            }
+
+            /**
+             * Animate moving with custom parameters relative to parent layout
+             *
+             * @param view animated view
+             * @param fx staring horizontal factor
+             * @param tx ending horizontal factor
+             * @param fy starting vertical factor
+             * @param ty ending vertical factor
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator moveToParent(View view, float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
+                return PropertyAnimations.translate(view,
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, fx, true), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, tx, true),
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, fy, false), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_PARENT, ty, false),
+                        duration, fillAfter, getCommonInterpolator());
+            }
+        }
+
+        public static class Alpha {
+
+            /**
+             * Animate visibility changing from visible to invisible
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator hide(View view, int duration, boolean fillAfter){
+                return PropertyAnimations.alpha(view, 1.0f, 0.0f, duration, fillAfter, getCommonInterpolator());
+            }
+
+            /**
+             * Animate visibility changing from invisible to visible
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator show(View view, int duration, boolean fillAfter){
+                return PropertyAnimations.alpha(view, 0.0f, 1.0f, duration, fillAfter, getCommonInterpolator());
+            }
+
+            /**
+             * Animate opacity changing with custom parameters
+             *
+             * @param view animated view
+             * @param startingOpacity opacity at the start of animation
+             * @param endingOpacity opacity at the end of animation
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator alpha(View view, float startingOpacity, float endingOpacity, int duration, boolean fillAfter){
+                return PropertyAnimations.alpha(view, startingOpacity, endingOpacity, duration, fillAfter, getCommonInterpolator());
+            }
+        }
+
+        public static class Scale {
+
+            /**
+             * Animate scale with custom parameters relative to self
+             *
+             * @param view animated view
+             * @param fx horizontal factor at start of animation
+             * @param tx horizontal factor at the end
+             * @param fy vertical factor at start of animation
+             * @param ty vertical factor at the and
+             * @param pivotX pivot horizontal position relative to self
+             * @param pivotY pivot vertical position relative to self
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator scale(View view, float fx, float tx, float fy, float ty, float pivotX, float pivotY, int duration, boolean fillAfter) {
+                return PropertyAnimations.scale(view, fx, tx, fy, ty,
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, pivotX, true), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, pivotY, false),
+                        duration, fillAfter, getCommonInterpolator());
+            }
+
+            /**
+             * Animate scale from 0 to default size
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator from0to1(View view, int duration, boolean fillAfter) {
+                return scale(view, 0.0f, 1.0f, 0.0f, 1.0f, 0.5f, 0.5f, duration, fillAfter);
+            }
+
+            /**
+             * Animate scale from default size to 0
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator from1to0(View view, int duration, boolean fillAfter) {
+                return scale(view, 1.0f, 0.0f, 1.0f, 0.0f, 0.5f, 0.5f, duration, fillAfter);
+            }
+
+            /**
+             * Animate scale from default size double size
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator from1to2(View view, int duration, boolean fillAfter) {
+                return scale(view, 1.0f, 2.0f, 1.0f, 2.0f, 0.5f, 0.5f, duration, fillAfter);
+            }
+
+            /**
+             * Animate scale from double size to default size
+             *
+             * @param view animated view
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator from2to1(View view, int duration, boolean fillAfter) {
+                return scale(view, 2.0f, 1.0f, 2.0f, 1.0f, 0.5f, 0.5f, duration, fillAfter);
+            }
+        }
+
+        public static class Rotate {
+
+            /**
+             * Animate rotation with custom parameters with pivot relative to self
+             *
+             * @param view animated view
+             * @param fd starting degrees
+             * @param td ending degrees
+             * @param pivotX horizontal pivot position relative to self
+             * @param pivotY vertical pivot position relative to self
+             * @param duration duration in milliseconds
+             * @param fillAfter true if the view should keep the final values after the animation ends
+             * @return started ViewPropertyAnimator
+             */
+            static public ViewPropertyAnimator relativeToSelf(View view, float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
+                return PropertyAnimations.rotate(view, fd, td,
+                        PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, pivotX, true), PropertyAnimations.resolve(view, Animation.RELATIVE_TO_SELF, pivotY, false),
+                        duration, fillAfter, getCommonInterpolator());
+            }
+        }
+    }
+
+    //===================================                ===========================================
+    //================================== Animation engine ==========================================
+    //===================================                ===========================================
+
+    /**
+     * Engine which ticks all its animations from one Choreographer frame callback.
+     * Animations change real view properties, are kept in flat arrays
+     * and allocate nothing per frame, which pays off with many simultaneous animations.
+     * It is a separate API rather than a mode of the factories: Animation objects returned by factories
+     * are advanced by the view while it draws and can't be ticked by the engine,
+     * use Engine methods instead of factories where many views animate at once.
+     * Common interpolator of static Animus is used. Must be used from the main thread.
+     */
+    public static class Engine {
+
+        public final static int TRANSLATION_X = AnimationEngine.TRANSLATION_X;
+        public final static int TRANSLATION_Y = AnimationEngine.TRANSLATION_Y;
+        public final static int ALPHA = AnimationEngine.ALPHA;
+        public final static int SCALE_X = AnimationEngine.SCALE_X;
+        public final static int SCALE_Y = AnimationEngine.SCALE_Y;
+        public final static int ROTATION = AnimationEngine.ROTATION;
+
+        /**
+         * Animate single property of the view, replacing running animation of the same property
+         *
+         * @param view animated view
+         * @param property One of Engine properties
+         * @param from value at start of animation
+         * @param to value at the end
+         * @param duration duration in milliseconds
+         * @param delay delay before start in milliseconds
+         */
+        public static void animate(View view, @IntRange(from=0,to=5) int property, float from, float to, int duration, long delay) {
+            AnimationEngine engine = AnimationEngine.getInstance();
+            engine.animate(view, property, from, to, duration, delay, engine.indexOf(getCommonInterpolator()), null);
+        }
+
+        /**
+         * Animate moving in pixels
+         *
+         * @param view animated view
+         * @param fx starting horizontal translation
+         * @param tx ending horizontal translation
+         * @param fy starting vertical translation
+         * @param ty ending vertical translation
+         * @param duration duration in milliseconds
+         */
+        public static void move(View view, float fx, float tx, float fy, float ty, int duration) {
+            AnimationEngine engine = AnimationEngine.getInstance();
+            int interpolator = engine.indexOf(getCommonInterpolator());
+            engine.animate(view, TRANSLATION_X, fx, tx, duration, 0, interpolator, null);
+            engine.animate(view, TRANSLATION_Y, fy, ty, duration, 0, interpolator, null);
+        }
+
+        /**
+         * Animate opacity changing
+         *
+         * @param view animated view
+         * @param startingOpacity opacity at the start of animation
+         * @param endingOpacity opacity at the end of animation
+         * @param duration duration in milliseconds
+         */
+        public static void alpha(View view, float startingOpacity, float endingOpacity, int duration) {
+            animate(view, ALPHA, startingOpacity, endingOpacity, duration, 0);
+        }
+
+        /**
+         * Animate scale around the view pivot
+         *
+         * @param view animated view
+         * @param fx horizontal factor at start of animation
+         * @param tx horizontal factor at the end
+         * @param fy vertical factor at start of animation
+         * @param ty vertical factor at the and
+         * @param duration duration in milliseconds
+         */
+        public static void scale(View view, float fx, float tx, float fy, float ty, int duration) {
+            AnimationEngine engine = AnimationEngine.getInstance();
+            int interpolator = engine.indexOf(getCommonInterpolator());
+            engine.animate(view, SCALE_X, fx, tx, duration, 0, interpolator, null);
+            engine.animate(view, SCALE_Y, fy, ty, duration, 0, interpolator, null);
+        }
+
+        /**
+         * Animate rotation around the view pivot
+         *
+         * @param view animated view
+         * @param fd starting degrees
+         * @param td ending degrees
+         * @param duration duration in milliseconds
+         */
+        public static void rotate(View view, float fd, float td, int duration) {
+            animate(view, ROTATION, fd, td, duration, 0);
+        }
+
+        /**
+         * Stop engine animations of the view, properties keep their current values
+         *
+         * @param view animated view
+         */
+        public static void cancel(View view) {
+            AnimationEngine.getInstance().cancel(view);
+        }
+
+        /**
+         * Returns number of running property animations
+         *
+         * @return Active animations count
+         */
+        public static int getActiveCount() {
+            return AnimationEngine.getInstance().getActiveCount();
+        }
+    }
+
+    //=====================================         ==============================================
+    //==================================== Physics =================================================
+    //=====================================         ==============================================
+
+    /**
+     * Spring animations of view properties. Motion has no fixed duration, it settles
+     * when the property stops moving. Starting a spring on a property which is still moving
+     * retargets it: value and velocity are kept, so gestures can change the target every frame.
+     * Properties are Animus.Engine ones. Must be used from the main thread.
+     */
+    public static class Spring {
+
+        public final static float STIFFNESS_HIGH = 10000f;
+        public final static float STIFFNESS_MEDIUM = 1500f;
+        public final static float STIFFNESS_LOW = 200f;
+        public final static float STIFFNESS_VERY_LOW = 50f;
+
+        public final static float DAMPING_RATIO_NO_BOUNCY = 1f;
+        public final static float DAMPING_RATIO_LOW_BOUNCY = 0.75f;
+        public final static float DAMPING_RATIO_MEDIUM_BOUNCY = 0.5f;
+        public final static float DAMPING_RATIO_HIGH_BOUNCY = 0.2f;
+
+        /**
+         * Pull single property of the view to the target
+         *
+         * @param view animated view
+         * @param property One of Engine properties
+         * @param target final value
+         * @param stiffness spring stiffness, one of STIFFNESS constants or any positive value
+         * @param dampingRatio 1 for no bounces, lower values bounce more
+         */
+        public static void animate(View view, @IntRange(from=0,to=5) int property, float target, float stiffness, float dampingRatio) {
+            PhysicsAnimator.getInstance().spring(view, property, target, stiffness, dampingRatio);
+        }
+
+        /**
+         * Move the view to the translation in pixels
+         *
+         * @param view animated view
+         * @param tx final horizontal translation
+         * @param ty final vertical translation
+         * @param stiffness spring stiffness
+         * @param dampingRatio 1 for no bounces, lower values bounce more
+         */
+        public static void move(View view, float tx, float ty, float stiffness, float dampingRatio) {
+            PhysicsAnimator animator = PhysicsAnimator.getInstance();
+            animator.spring(view, Engine.TRANSLATION_X, tx, stiffness, dampingRatio);
+            animator.spring(view, Engine.TRANSLATION_Y, ty, stiffness, dampingRatio);
+        }
+
+        /**
+         * Move the view to the translation in pixels with medium stiffness and no bounces
+         *
+         * @param view animated view
+         * @param tx final horizontal translation
+         * @param ty final vertical translation
+         */
+        public static void move(View view, float tx, float ty) {
+            move(view, tx, ty, STIFFNESS_MEDIUM, DAMPING_RATIO_NO_BOUNCY);
+        }
+
+        /**
+         * Change opacity of the view
+         *
+         * @param view animated view
+         * @param endingOpacity final opacity
+         * @param stiffness spring stiffness
+         * @param dampingRatio 1 for no bounces, lower values bounce more
+         */
+        public static void alpha(View view, float endingOpacity, float stiffness, float dampingRatio) {
+            PhysicsAnimator.getInstance().spring(view, Engine.ALPHA, endingOpacity, stiffness, dampingRatio);
+        }
+
+        /**
+         * Scale the view around its pivot
+         *
+         * @param view animated view
+         * @param tx final horizontal factor
+         * @param ty final vertical factor
+         * @param stiffness spring stiffness
+         * @param dampingRatio 1 for no bounces, lower values bounce more
+         */
+        public static void scale(View view, float tx, float ty, float stiffness, float dampingRatio) {
+            PhysicsAnimator animator = PhysicsAnimator.getInstance();
+            animator.spring(view, Engine.SCALE_X, tx, stiffness, dampingRatio);
+            animator.spring(view, Engine.SCALE_Y, ty, stiffness, dampingRatio);
+        }
+
+        /**
+         * Rotate the view around its pivot
+         *
+         * @param view animated view
+         * @param td final degrees
+         * @param stiffness spring stiffness
+         * @param dampingRatio 1 for no bounces, lower values bounce more
+         */
+        public static void rotate(View view, float td, float stiffness, float dampingRatio) {
+            PhysicsAnimator.getInstance().spring(view, Engine.ROTATION, td, stiffness, dampingRatio);
+        }
+
+        /**
+         * Stop spring and fling motions of the view, properties keep their current values
+         *
+         * @param view animated view
+         */
+        public static void cancel(View view) {
+            PhysicsAnimator.getInstance().cancel(view);
+        }
+
+        /**
+         * Returns number of moving properties of springs and flings
+         *
+         * @return Active motions count
+         */
+        public static int getActiveCount() {
+            return PhysicsAnimator.getInstance().getActiveCount();
+        }
+    }
+
+    /**
+     * Fling animations of view properties: the property keeps the velocity, slowed down by friction,
+     * and stops when it is slow enough or reaches a bound. Flinging a moving property keeps its value.
+     * Properties are Animus.Engine ones. Must be used from the main thread.
+     */
+    public static class Fling {
+
+        public final static float FRICTION_DEFAULT = 4f;
+
+        /**
+         * Throw single property of the view
+         *
+         * @param view animated view
+         * @param property One of Engine properties
+         * @param velocity starting velocity in property units per second
+         * @param friction positive friction, velocity falls e times in 1 / friction seconds
+         * @param min lowest value of the property
+         * @param max highest value of the property
+         */
+        public static void animate(View view, @IntRange(from=0,to=5) int property, float velocity, float friction,
+                                   float min, float max) {
+            PhysicsAnimator.getInstance().fling(view, property, velocity, friction, min, max);
+        }
+
+        /**
+         * Throw the view with velocity in pixels per second, e.g. from VelocityTracker
+         *
+         * @param view animated view
+         * @param vx horizontal velocity
+         * @param vy vertical velocity
+         * @param friction positive friction, velocity falls e times in 1 / friction seconds
+         */
+        public static void move(View view, float vx, float vy, float friction) {
+            PhysicsAnimator animator = PhysicsAnimator.getInstance();
+            animator.fling(view, Engine.TRANSLATION_X, vx, friction, -Float.MAX_VALUE, Float.MAX_VALUE);
+            animator.fling(view, Engine.TRANSLATION_Y, vy, friction, -Float.MAX_VALUE, Float.MAX_VALUE);
+        }
+
+        /**
+         * Throw the view with velocity in pixels per second and default friction
+         *
+         * @param view animated view
+         * @param vx horizontal velocity
+         * @param vy vertical velocity
+         */
+        public static void move(View view, float vx, float vy) {
+            move(view, vx, vy, FRICTION_DEFAULT);
+        }
+
+        /**
+         * Rotate the view with angular velocity
+         *
+         * @param view animated view
+         * @param velocity degrees per second
+         * @param friction positive friction, velocity falls e times in 1 / friction seconds
+         */
+        public static void rotate(View view, float velocity, float friction) {
+            PhysicsAnimator.getInstance().fling(view, Engine.ROTATION, velocity, friction, -Float.MAX_VALUE, Float.MAX_VALUE);
+        }
+    }
+
+    //=====================================            ===========================================
+    //==================================== Scheduling ==============================================
+    //=====================================            ===========================================
+
+    /**
+     * Global scheduler of animations started by instances with setScheduled.
+     * At most maxRunning scheduled animations run at once and at most startsPerFrame start in one frame,
+     * other requests wait and start on next frames, higher priority first.
+     * Requests for views outside the visible area of the window jump to their end instead of running,
+     * low priority requests do the same when they can't start right away.
+     * Must be used from the main thread.
+     */
+    public static class Scheduler {
+
+        public final static int PRIORITY_LOW = 0;
+        public final static int PRIORITY_NORMAL = 1;
+        public final static int PRIORITY_HIGH = 2;
+
+        /**
+         * Set maximum number of scheduled animations running at once
+         *
+         * @param maxRunning positive limit, 24 by default
+         */
+        public static void setMaxRunning(int maxRunning) {
+            AnimationScheduler.getInstance().setMaxRunning(maxRunning);
+        }
+
+        /**
+         * Returns maximum number of scheduled animations running at once
+         *
+         * @return Current limit
+         */
+        public static int getMaxRunning() {
+            return AnimationScheduler.getInstance().getMaxRunning();
+        }
+
+        /**
+         * Set maximum number of scheduled animations started in one frame
+         *
+         * @param startsPerFrame positive limit, 6 by default
+         */
+        public static void setStartsPerFrame(int startsPerFrame) {
+            AnimationScheduler.getInstance().setStartsPerFrame(startsPerFrame);
+        }
+
+        /**
+         * Returns maximum number of scheduled animations started in one frame
+         *
+         * @return Current limit
+         */
+        public static int getStartsPerFrame() {
+            return AnimationScheduler.getInstance().getStartsPerFrame();
+        }
+
+        /**
+         * Remove waiting request of the view, its animation is not started
+         *
+         * @param view View of the request
+         */
+        public static void cancel(View view) {
+            ViewState state = ViewState.peek(view);
+            if (state != null) {
+                AnimationScheduler.getInstance().drop(state);
+            }
+        }
+
+        /**
+         * Returns number of running scheduled animations
+         *
+         * @return Running animations count
+         */
+        public static int getRunningCount() {
+            return AnimationScheduler.getInstance().getRunningCount();
+        }
+
+        /**
+         * Returns number of requests waiting to start
+         *
+         * @return Queued requests count
+         */
+        public static int getQueuedCount() {
+            return AnimationScheduler.getInstance().getQueuedCount();
+        }
+
+        /**
+         * Returns number of requests which jumped to their end instead of running
+         *
+         * @return Collapsed requests count
+         */
+        public static long getCollapsedCount() {
+            return AnimationScheduler.getInstance().getCollapsedCount();
+        }
+    }
+
+    //===================================                 ==========================================
+    //================================== Non-static Animus =========================================
+    //===================================                 ==========================================
+
+    /**
+     * Non-static instance of Animus
+     */
+    public static class Instance {
+
+        // Common interpolator for animations
+        private Interpolator cInterpolator;
+        // Common AnimationListeners for animations
+        private final AnimationListeners listeners = new AnimationListeners();
+        // Common AnimationListeners or null if there are none
+        private Animation.AnimationListener cListener;
+        // Common fillBefore parameter for animations
+        private boolean isFillBefore;
+        // Common hardware layer parameter for animations started via start
+        private boolean isHardwareLayer;
+        // Common retarget parameter for animations started via start
+        private boolean isRetarget;
+        // Common coalesce parameter for animations started via start
+        private boolean isCoalesce;
+        // Common commit end parameter for animations started via start
+        private boolean isCommitEnd;
+        // True to start animations through Animus.Scheduler
+        private boolean isScheduled;
+        // Priority of scheduled animations started via start
+        private int priority = Scheduler.PRIORITY_NORMAL;
+        // Animus.Quality policies applied under frame pressure
+        private int qualityPolicies;
+        // Multiplier of durations shortened under frame pressure
+        private float qualityDurationScale = 0.5f;
+        // Registry of created animations and animated views, null while not tracking
+        private volatile AnimationRegistry registry;
+        // Sink of animation metrics
+        private Metrics.Sink metricsSink;
+
+        /**
+         * Constructor of non-static Animus instance
+         *
+         * @param copyStatic If True, then common parameters for animations
+         *                   will be copied from static Animus,
+         *                   else the default parameters will be set
+         */
+        public Instance(boolean copyStatic) {
+            if (copyStatic) {
+                Config config = cConfig.get();
+                cInterpolator = config.interpolator;
+                listeners.set(cListeners);
+                cListener = listeners.isEmpty() ? null : listeners;
+                isFillBefore = config.fillBefore;
+                isHardwareLayer = config.hardwareLayer;
+                isRetarget = config.retarget;
+                isCoalesce = config.coalesce;
+                isCommitEnd = config.commitEnd;
+            }
+            else {
+                cInterpolator = Interpolators.get(Interpolation.LINEAR);
+                cListener = null;
+                isFillBefore = true;
+            }
+        }
+
+        /**
+         * Constructor of non-static Animus instance
+         *
+         * @param interpolator Common animation interpolator
+         * @param listener Common AnimationListener
+         */
+        public Instance(Interpolator interpolator, Animation.AnimationListener listener) {
+            cInterpolator = interpolator;
+            setCommonAnimationListener(listener);
+            isFillBefore = true;
+        }
+
+        /**
+         * Set default animations interpolator
+         *
+         * @param interpolatorType Type of interpolator
+         */
+        public Animus.Instance setCommonInterpolator(@IntRange(from=0,to=11) int interpolatorType) {
+            cInterpolator = Interpolators.get(interpolatorType);
+            return this;
+        }
+
+        /**
+         * Set default animations interpolator with parameter
+         *
+         * @param interpolatorType Type of interpolator
+         * @param parameter Interpolator parameter, see Animus.getInterpolator
+         */
+        public Animus.Instance setCommonInterpolator(@IntRange(from=0,to=11) int interpolatorType, float parameter) {
+            cInterpolator = Interpolators.get(interpolatorType, parameter);
+            return this;
+        }
+
+        /**
+         * Set default animations interpolator
+         *
+         * @param interpolator Common interpolator
+         */
+        public Animus.Instance setCommonInterpolator(Interpolator interpolator) {
+            cInterpolator = interpolator;
+            return this;
+        }
+
+        /**
+         * Returns current common animation interpolator
+         *
+         * @return Current common interpolator
+         */
+        public Interpolator getCommonInterpolator() {
+            return cInterpolator;
+        }
+
+        /**
+         * Set default listener for all animations
+         *
+         * @param listener Common AnimationListener for animations
+         */
+        public Animus.Instance setCommonAnimationListener(Animation.AnimationListener listener) {
+            listeners.set(listener);
+            cListener = listeners.isEmpty() ? null : listeners;
+            return this;
+        }
+
+        /**
+         * Add common listener for animations of this instance, see Animus.addCommonAnimationListener
+         *
+         * @param listener Additional common AnimationListener
+         */
+        public Animus.Instance addCommonAnimationListener(Animation.AnimationListener listener) {
+            listeners.add(listener);
+            cListener = listeners;
+            return this;
+        }
+
+        /**
+         * Remove common listener of this instance
+         *
+         * @param listener Common AnimationListener to remove
+         */
+        public Animus.Instance removeCommonAnimationListener(Animation.AnimationListener listener) {
+            listeners.remove(listener);
+            cListener = listeners.isEmpty() ? null : listeners;
+            return this;
+        }
+
+        /**
+         * Set default listener for all animations, held by weak reference,
+         * see Animus.setCommonAnimationListenerWeak
+         *
+         * @param listener Common AnimationListener for animations
+         */
+        public Animus.Instance setCommonAnimationListenerWeak(Animation.AnimationListener listener) {
+            return setCommonAnimationListener(listener != null ? new WeakAnimationListener(listener) : null);
+        }
+
+        /**
+         * Returns current common AnimationListener
+         *
+         * @return First common AnimationListener, null if the weak one was collected
+         */
+        public Animation.AnimationListener getCommonAnimationListener() {
+            return listeners.first();
+        }
+
+        /**
+         * Set parameter fillBefore for all animations
+         *
+         * @param fillBefore  Common fillBefore parameter for animations
+         */
+        public Animus.Instance setCommonFillBefore(boolean fillBefore) {
+            isFillBefore = fillBefore;
+            return this;
+        }
+
+        /**
+         * Returns current common FillBefore parameter
+         *
+         * @return Current common FillBefore value
+         */
+        public boolean isCommonFillBefore() {
+            return isFillBefore;
+        }
+
+        /**
+         * Render the view into hardware layer while its animation started via start runs
+         *
+         * @param hardwareLayer Common hardware layer parameter for animations
+         */
+        public Animus.Instance setCommonHardwareLayer(boolean hardwareLayer) {
+            isHardwareLayer = hardwareLayer;
+            return this;
+        }
+
+        /**
+         * Returns current common hardware layer parameter
+         *
+         * @return Current common hardware layer value
+         */
+        public boolean isCommonHardwareLayer() {
+            return isHardwareLayer;
+        }
+
+        /**
+         * Continue from the current transformation when an animation is started via start
+         * while the previous one still moves the view, see Animus.setCommonRetarget
+         *
+         * @param retarget Common retarget parameter for animations
+         */
+        public Animus.Instance setCommonRetarget(boolean retarget) {
+            isRetarget = retarget;
+            return this;
+        }
+
+        /**
+         * Returns current common retarget parameter
+         *
+         * @return Current common retarget value
+         */
+        public boolean isCommonRetarget() {
+            return isRetarget;
+        }
+
+        /**
+         * Coalesce redundant requests when an animation is started via start,
+         * see Animus.setCommonCoalesce
+         *
+         * @param coalesce Common coalesce parameter for animations
+         */
+        public Animus.Instance setCommonCoalesce(boolean coalesce) {
+            isCoalesce = coalesce;
+            return this;
+        }
+
+        /**
+         * Returns current common coalesce parameter
+         *
+         * @return Current common coalesce value
+         */
+        public boolean isCommonCoalesce() {
+            return isCoalesce;
+        }
+
+        /**
+         * Write the end of animations with fillAfter started via start to real view properties,
+         * see Animus.setCommonCommitEnd
+         *
+         * @param commitEnd Common commit end parameter for animations
+         */
+        public Animus.Instance setCommonCommitEnd(boolean commitEnd) {
+            isCommitEnd = commitEnd;
+            return this;
+        }
+
+        /**
+         * Returns current common commit end parameter
+         *
+         * @return Current common commit end value
+         */
+        public boolean isCommonCommitEnd() {
+            return isCommitEnd;
+        }
+
+        /**
+         * Start animations via start through the global Animus.Scheduler,
+         * which limits how many of them run and start in one frame
+         *
+         * @param scheduled True to schedule animations of this instance
+         */
+        public Animus.Instance setScheduled(boolean scheduled) {
+            isScheduled = scheduled;
+            return this;
+        }
+
+        /**
+         * Returns whether animations of this instance are scheduled
+         *
+         * @return Current scheduled value
+         */
+        public boolean isScheduled() {
+            return isScheduled;
+        }
+
+        /**
+         * Set priority of scheduled animations started via start
+         *
+         * @param priority One of Animus.Scheduler priorities
+         */
+        public Animus.Instance setPriority(@IntRange(from=0,to=2) int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Returns priority of scheduled animations
+         *
+         * @return Current priority
+         */
+        public int getPriority() {
+            return priority;
+        }
+
+        /**
+         * Degrade animations created by this instance while frames are janky, see Animus.Quality
+         *
+         * @param policies Animus.Quality policy flags, 0 to keep full quality
+         */
+        public Animus.Instance setAdaptiveQuality(int policies) {
+            qualityPolicies = policies;
+            return this;
+        }
+
+        /**
+         * Returns Animus.Quality policies of this instance
+         *
+         * @return Current policy flags
+         */
+        public int getAdaptiveQuality() {
+            return qualityPolicies;
+        }
+
+        /**
+         * Set multiplier of durations shortened under frame pressure
+         *
+         * @param scale Multiplier from 0 to 1, 0.5 by default
+         */
+        public Animus.Instance setAdaptiveDurationScale(float scale) {
+            if (scale < 0 || scale > 1) {
+                throw new IllegalArgumentException("Duration scale must be from 0 to 1: " + scale);
+            }
+            qualityDurationScale = scale;
+            return this;
+        }
+
+        /**
+         * Returns multiplier of durations shortened under frame pressure
+         *
+         * @return Current duration scale
+         */
+        public float getAdaptiveDurationScale() {
+            return qualityDurationScale;
+        }
+
+        /**
+         * Set sink receiving frame timing of animations of this instance, see Animus.Metrics
+         *
+         * @param sink Sink or null to stop measuring
+         */
+        public Animus.Instance setMetricsSink(Metrics.Sink sink) {
+            MetricsRecorder.instanceSinkChanged(metricsSink, sink);
+            metricsSink = sink;
+            return this;
+        }
+
+        /**
+         * Returns sink of animation metrics
          *
-         * @param fx horizontal factor at start of animation
-         * @param tx horizontal factor at the end
-         * @param fy vertical factor at start of animation
-         * @param ty vertical factor at the and
-         * @param pivotX pivot horizontal position
-         * @param pivotXRelation specifies how pivotX should be interpreted. One of
-         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
-         * @param pivotY pivot vertical position
-         * @param pivotYRelation specifies how pivotY should be interpreted. One of
-         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
-         * @param duration duration in milliseconds
-         * @param fillAfter true if the animation should apply its transformation after it ends
-         * @return ScaleAnimation
+         * @return Current sink or null
          */
-        static public Animation custom(float fx, float tx, float fy, float ty, float pivotX, int pivotXRelation, float pivotY, int pivotYRelation, int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
-            return setDefaults(animation, duration, fillAfter);
+        public Metrics.Sink getMetricsSink() {
+            return metricsSink;
         }
-    }
-
-    public static class Rotate {
 
         /**
-         * Animate rotation with custom parameters with pivot relative to self
+         * Start the animation on the view, applying common parameters which need the view.
+         * Common AnimationListener receives the animation events,
+         * listener set on the animation itself is replaced
          *
-         * @param fd starting degrees
-         * @param td ending degrees
-         * @param pivotX horizontal pivot position relative to self
-         * @param pivotY vertical pivot position relative to self
-         * @param duration duration in milliseconds
-         * @param fillAfter true if the animation should apply its transformation after it ends
-         * @return RotateAnimation
+         * @param view View to animate
+         * @param animation Animation, usually from this instance
          */
-        static public Animation relativeToSelf(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation = new RotateAnimation(fd, td, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
-            return setDefaults(animation, duration, fillAfter);
+        public void start(View view, Animation animation) {
+            start(view, animation, null, priority);
         }
 
         /**
-         * Animate rotation with custom parameters with pivot relative to parent layout
+         * Start the animation on the view with own listener receiving events after common listeners.
+         * The listener gets the end also if the request is coalesced, dropped from the scheduler queue
+         * or replaced by the next animation of the view. Nothing is allocated for the listener
          *
-         * @param fd starting degrees
-         * @param td ending degrees
-         * @param pivotX horizontal pivot position relative to parent
-         * @param pivotY vertical pivot position relative to parent
-         * @param duration duration in milliseconds
-         * @param fillAfter true if the animation should apply its transformation after it ends
-         * @return RotateAnimation
+         * @param view View to animate
+         * @param animation Animation, usually from this instance
+         * @param listener Listener of this animation, can be null
          */
-        static public Animation relativeToParent(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation =  new RotateAnimation(fd, td, Animation.RELATIVE_TO_PARENT, pivotX, Animation.RELATIVE_TO_PARENT, pivotY);
-            return setDefaults(animation, duration, fillAfter);
+        public void start(View view, Animation animation, Animation.AnimationListener listener) {
+            start(view, animation, listener, priority);
         }
 
         /**
-         * Animate rotation with custom parameters
+         * Start the animation on the view with the priority instead of the instance one.
+         * Priority matters only if the instance is scheduled
          *
-         * @param fd starting degrees
-         * @param td ending degrees
-         * @param pivotX horizontal pivot position relative to self
-         * @param pivotXRelation specifies how pivotX should be interpreted. One of
-         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
-         * @param pivotY vertical pivot position relative to self
-         * @param pivotYRelation specifies how pivotY should be interpreted. One of
-         *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
-         * @param duration duration in milliseconds
-         * @param fillAfter true if the animation should apply its transformation after it ends
-         * @return RotateAnimation
+         * @param view View to animate
+         * @param animation Animation, usually from this instance
+         * @param priority One of Animus.Scheduler priorities
          */
-        static public Animation custom(float fd, float td, float pivotX, int pivotXRelation,
-                                       float pivotY, int pivotYRelation, int duration, boolean fillAfter) {
-            Animation animation =  new RotateAnimation(fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
-            return setDefaults(animation, duration, fillAfter);
+        public void start(View view, Animation animation, @IntRange(from=0,to=2) int priority) {
+            start(view, animation, null, priority);
         }
-    }
-
-    //===================================                 ==========================================
-    //================================== Non-static Animus =========================================
-    //===================================                 ==========================================
-
-    /**
-     * Non-static instance of Animus
-     */
-    public static class Instance {
-
-        // Common interpolator for animations
-        private Interpolator cInterpolator;
-        // Common AnimationListener for animations
-        private Animation.AnimationListener cListener;
-        // Common fillBefore parameter for animations
-        private boolean isFillBefore;
 
         /**
-         * Constructor of non-static Animus instance
+         * Start the animation on the view with own listener and the priority instead of the instance one
          *
-         * @param copyStatic If True, then common parameters for animations
-         *                   will be copied from static Animus,
-         *                   else the default parameters will be set
+         * @param view View to animate
+         * @param animation Animation, usually from this instance
+         * @param listener Listener of this animation, can be null
+         * @param priority One of Animus.Scheduler priorities
          */
-        public Instance(boolean copyStatic) {
-            if (copyStatic) {
-                cInterpolator = Animus.cInterpolator;
-                cListener = Animus.cListener;
-                isFillBefore = Animus.isFillBefore;
+        public void start(View view, Animation animation, Animation.AnimationListener listener,
+                          @IntRange(from=0,to=2) int priority) {
+            Animation.AnimationListener common = MetricsRecorder.listenerFor(animation, cListener, metricsSink);
+            track(view);
+            if (isScheduled) {
+                AnimationScheduler.getInstance().request(ViewState.of(view), animation, common, listener,
+                        isHardwareLayer, isRetarget, isCoalesce, isCommitEnd, priority);
             }
             else {
-                cInterpolator = new LinearInterpolator();
-                cListener = null;
-                isFillBefore = true;
+                ViewState.of(view).start(animation, null, common, listener, isHardwareLayer, isRetarget, isCoalesce,
+                        isCommitEnd);
             }
         }
 
         /**
-         * Constructor of non-static Animus instance
+         * Animate group of views one after another, like items of RecyclerView or ListView.
+         * All items are started on the next frame with growing start offset through start,
+         * so common listeners, metrics and scheduling of this instance apply to every item
          *
-         * @param interpolator Common animation interpolator
-         * @param listener Common AnimationListener
+         * @param views Views to animate in order
+         * @param factory Factory of item animations, usually a method of this instance
+         * @param duration duration of each item animation in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @param staggerDelay delay between starts of neighbouring items in milliseconds
+         * @param onComplete Called once when animations of all items ended or were replaced,
+         *                   items of views detached or hidden past the expected end are not waited for, can be null
          */
-        public Instance(Interpolator interpolator, Animation.AnimationListener listener) {
-            cInterpolator = interpolator;
-            cListener = listener;
-            isFillBefore = true;
+        public void startStaggered(Collection<? extends View> views, Animus.Factory factory, int duration, boolean fillAfter,
+                                   long staggerDelay, Runnable onComplete) {
+            new StaggeredBatch(this, views, factory, duration, fillAfter, staggerDelay, onComplete).post();
         }
 
         /**
-         * Set default animations interpolator
+         * Build animation on the shared background thread, e.g. during RecyclerView prefetch,
+         * and start it later from the main thread via PrebuiltAnimation.startOn.
+         * Factory reads common parameters of this instance on the background thread,
+         * don't change them while animations are prebuilt
          *
-         * @param interpolatorType Type of interpolator
+         * @param factory Factory of the animation, usually a method of this instance
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return Handle of the animation being built
          */
-        public Animus.Instance setCommonInterpolator(@IntRange(from=0,to=11) int interpolatorType) {
-            cInterpolator = getNewInterpolator(interpolatorType);
-            return this;
+        public PrebuiltAnimation prebuild(Animus.Factory factory, int duration, boolean fillAfter) {
+            return prebuild(factory, duration, fillAfter, PrebuiltAnimation.getDefaultExecutor());
         }
 
         /**
-         * Set default animations interpolator
+         * Build animation with the executor and start it later from the main thread via PrebuiltAnimation.startOn
          *
-         * @param interpolator Common interpolator
+         * @param factory Factory of the animation, usually a method of this instance
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @param executor Executor running the factory
+         * @return Handle of the animation being built
          */
-        public Animus.Instance setCommonInterpolator(Interpolator interpolator) {
-            cInterpolator = interpolator;
-            return this;
+        public PrebuiltAnimation prebuild(Animus.Factory factory, int duration, boolean fillAfter, Executor executor) {
+            return PrebuiltAnimation.submit(factory, duration, fillAfter, this, executor);
         }
 
         /**
-         * Returns current common animation interpolator
+         * Build animation of the spec on the shared background thread
+         * and start it later from the main thread via PrebuiltAnimation.startOn
          *
-         * @return Current common interpolator
+         * @param spec Spec of the animation
+         * @return Handle of the animation being built
          */
-        public Interpolator getCommonInterpolator() {
-            return cInterpolator;
+        public PrebuiltAnimation prebuild(AnimationSpec spec) {
+            return prebuild(spec, PrebuiltAnimation.getDefaultExecutor());
         }
 
         /**
-         * Set default listener for all animations
+         * Build animation of the spec with the executor and start it later from the main thread
+         * via PrebuiltAnimation.startOn
          *
-         * @param listener Common AnimationListener for animations
+         * @param spec Spec of the animation
+         * @param executor Executor building the animation
+         * @return Handle of the animation being built
          */
-        public Animus.Instance setCommonAnimationListener(Animation.AnimationListener listener) {
-            cListener = listener;
-            return this;
+        public PrebuiltAnimation prebuild(AnimationSpec spec, Executor executor) {
+            return PrebuiltAnimation.submit(spec, executor);
         }
 
         /**
-         * Returns current common AnimationListener
+         * Create builder of reusable AnimationSpec with common parameters of this instance.
+         * Build specs once, e.g. for a list adapter, and apply them in bind calls
          *
-         * @return Current common AnimationListener
+         * @return New AnimationSpec.Builder
          */
-        public Animation.AnimationListener getCommonAnimationListener() {
-            return cListener;
+        public AnimationSpec.Builder spec() {
+            return new AnimationSpec.Builder(cInterpolator, cListener, isFillBefore, isHardwareLayer, isRetarget, isCoalesce,
+                    isCommitEnd, metricsSink, this);
         }
 
         /**
-         * Set parameter fillBefore for all animations
+         * Create builder of animation group running its children together, like fade and slide.
+         * Children share common interpolator and listener of this instance
          *
-         * @param fillBefore  Common fillBefore parameter for animations
+         * @return New AnimationComposite.Builder
          */
-        public Animus.Instance setCommonFillBefore(boolean fillBefore) {
-            isFillBefore = fillBefore;
-            return this;
+        public AnimationComposite.Builder parallel() {
+            return new AnimationComposite.Builder(false, cInterpolator, cListener, isFillBefore, isHardwareLayer, isRetarget, isCoalesce,
+                    isCommitEnd, metricsSink, this);
         }
 
         /**
-         * Returns current common FillBefore parameter
+         * Create builder of animation group running its children one after another.
+         * Children share common interpolator and listener of this instance
          *
-         * @return Current common FillBefore value
+         * @return New AnimationComposite.Builder
          */
-        public boolean isCommonFillBefore() {
-            return isFillBefore;
+        public AnimationComposite.Builder sequential() {
+            return new AnimationComposite.Builder(true, cInterpolator, cListener, isFillBefore, isHardwareLayer, isRetarget, isCoalesce,
+                    isCommitEnd, metricsSink, this);
         }
 
         private Animation setDefaults(Animation animation, int duration, boolean fillAfter) {
@@ -890,8 +2903,9 @@ public class Animus {
             animation.setFillBefore(isFillBefore);
             animation.setFillEnabled(isFillBefore);
             animation.setInterpolator(cInterpolator);
-            animation.setAnimationListener(cListener);
-            return animation;
+            animation.setAnimationListener(MetricsRecorder.listenerFor(animation, cListener, metricsSink));
+            track(animation);
+            return AdaptiveQuality.degrade(animation, qualityPolicies, qualityDurationScale);
         }
 
         //================================== Animations ============================================
@@ -908,7 +2922,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation move(float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE,
                     Animation.RELATIVE_TO_SELF, fx,
                     Animation.RELATIVE_TO_SELF, tx,
                     Animation.RELATIVE_TO_SELF, fy,
@@ -929,7 +2943,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation moveToParent(float fx, float tx, float fy, float ty, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT,
                     Animation.RELATIVE_TO_PARENT, fx,
                     Animation.RELATIVE_TO_PARENT, tx,
                     Animation.RELATIVE_TO_PARENT, fy,
@@ -952,7 +2966,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation moveFromSelfToParent(float fromSelfX, float toParentX, float fromSelfY, float toParentY, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_SELF_TO_PARENT,
                     Animation.RELATIVE_TO_SELF, fromSelfX,
                     Animation.RELATIVE_TO_PARENT, toParentX,
                     Animation.RELATIVE_TO_SELF, fromSelfY,
@@ -975,7 +2989,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation moveFromParentToSelf(float fromParentX, float toSelfX, float fromParentY, float toSelfY, int duration, boolean fillAfter) {
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_TO_SELF,
                     Animation.RELATIVE_TO_PARENT, fromParentX,
                     Animation.RELATIVE_TO_SELF, toSelfX,
                     Animation.RELATIVE_TO_PARENT, fromParentY,
@@ -1006,7 +3020,7 @@ public class Animus {
         public Animation moveCustom(float fx, int fxRelation, float tx, int txRelation,
                                 float fy, int fyRelation, float ty, int tyRelation, int duration, boolean fillAfter) {
 
-            Animation animation = new TranslateAnimation(fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_CUSTOM, fxRelation, fx, txRelation, tx, fyRelation, fy, tyRelation, ty);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1018,7 +3032,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toLeft(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_LEFT,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, -1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1035,7 +3049,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toRight(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_RIGHT,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1052,7 +3066,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toTop(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_TOP,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1069,7 +3083,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toBottom(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_BOTTOM,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1086,7 +3100,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toLeftOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_LEFT,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_PARENT, -1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1103,7 +3117,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toRightOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_RIGHT,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_PARENT, 1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1120,7 +3134,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toTopOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_TOP,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1138,7 +3152,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation toBottomOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_TO_PARENT_BOTTOM,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1155,7 +3169,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromLeft(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_LEFT,
                     Animation.RELATIVE_TO_SELF, -1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1172,7 +3186,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromRight(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_RIGHT,
                     Animation.RELATIVE_TO_SELF, 1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1189,7 +3203,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromTop(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_TOP,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, -1.0f,
@@ -1206,7 +3220,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromBottom(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_BOTTOM,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 1.0f,
@@ -1223,7 +3237,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromLeftOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_LEFT,
                     Animation.RELATIVE_TO_PARENT, -1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1240,7 +3254,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromRightOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_RIGHT,
                     Animation.RELATIVE_TO_PARENT, 1.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
                     Animation.RELATIVE_TO_SELF, 0.0f,
@@ -1257,7 +3271,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromTopOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_TOP,
                     Animation.RELATIVE_TO_PARENT, 0.0f,
                     Animation.RELATIVE_TO_PARENT, 0.0f,
                     Animation.RELATIVE_TO_PARENT, -1.0f,
@@ -1274,7 +3288,7 @@ public class Animus {
          * @return TranslateAnimation
          */
         public Animation fromBottomOfParent(int duration, boolean fillAfter){
-            Animation animation = new TranslateAnimation(
+            Animation animation = AnimationFactory.translate(AnimationFactory.MOVE_FROM_PARENT_BOTTOM,
                     Animation.RELATIVE_TO_PARENT, 0.0f,
                     Animation.RELATIVE_TO_PARENT, 0.0f,
                     Animation.RELATIVE_TO_PARENT, 1.0f,
@@ -1291,7 +3305,7 @@ public class Animus {
          * @return Alpha animation
          */
         public Animation hide(int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(1.0f, 0.0f);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE, 1.0f, 0.0f);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1303,7 +3317,7 @@ public class Animus {
          * @return Alpha animation
          */
         public Animation show(int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(0.0f, 1.0f);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_SHOW, 0.0f, 1.0f);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1317,10 +3331,48 @@ public class Animus {
          * @return AlphaAnimation
          */
         public Animation alpha(int startingOpacity, int endingOpacity, int duration, boolean fillAfter){
-            Animation animation = new AlphaAnimation(startingOpacity, endingOpacity);
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA, startingOpacity, endingOpacity);
             return setDefaults(animation, duration, fillAfter);
         }
 
+        /**
+         * Animate visibility changing from visible to invisible, then set visibility of the view to GONE.
+         * The view stops taking part in layout, drawing and touches.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        public Animation hideGone(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE_GONE, 1.0f, 0.0f);
+            return setDefaults(animation, duration, true);
+        }
+
+        /**
+         * Animate visibility changing from visible to invisible, then set visibility of the view to INVISIBLE.
+         * The view keeps its place in layout, but is not drawn and doesn't receive touches.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        public Animation hideInvisible(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_HIDE_INVISIBLE, 1.0f, 0.0f);
+            return setDefaults(animation, duration, true);
+        }
+
+        /**
+         * Set visibility of the view to VISIBLE and animate visibility changing from invisible to visible.
+         * Visibility is changed only if the animation is started via start
+         *
+         * @param duration duration in milliseconds
+         * @return Alpha animation
+         */
+        public Animation showVisible(int duration){
+            Animation animation = AnimationFactory.alpha(AnimationFactory.ALPHA_SHOW_VISIBLE, 0.0f, 1.0f);
+            return setDefaults(animation, duration, false);
+        }
+
 
         /**
          * Animate scale with custom parameters relative to self
@@ -1336,7 +3388,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         public Animation scale(float fx, float tx, float fy, float ty, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(fx, tx, fy, ty, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE, fx, tx, fy, ty, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1360,7 +3412,7 @@ public class Animus {
         public Animation scaleCustom(float fx, float tx, float fy, float ty,
                                      float pivotX, int pivotXRelation, float pivotY, int pivotYRelation,
                                      int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_CUSTOM, fx, tx, fy, ty, pivotXRelation, pivotX, pivotYRelation, pivotY);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1372,7 +3424,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         public Animation scaleFrom0to1(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(0.0f, 1.0f, 0.0f, 1.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_0_TO_1, 0.0f, 1.0f, 0.0f, 1.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -1385,7 +3437,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         public Animation scaleFrom1to0(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 0.0f, 1.0f, 0.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_1_TO_0, 1.0f, 0.0f, 1.0f, 0.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -1398,7 +3450,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         public Animation scaleFrom1to2(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 2.0f, 1.0f, 2.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_1_TO_2, 1.0f, 2.0f, 1.0f, 2.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -1411,7 +3463,7 @@ public class Animus {
          * @return ScaleAnimation
          */
         public Animation scaleFrom2to1(int duration, boolean fillAfter) {
-            Animation animation = new ScaleAnimation(1.0f, 2.0f, 1.0f, 2.0f,
+            Animation animation = AnimationFactory.scale(AnimationFactory.SCALE_FROM_2_TO_1, 1.0f, 2.0f, 1.0f, 2.0f,
                     Animation.RELATIVE_TO_SELF,0.5f, Animation.RELATIVE_TO_SELF,0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
@@ -1433,7 +3485,7 @@ public class Animus {
          */
         public Animation rotate(float fd, float td, float pivotX, int pivotXRelation,
                                 float pivotY, int pivotYRelation, int duration, boolean fillAfter) {
-            Animation animation =  new RotateAnimation(fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_CUSTOM, fd, td, pivotXRelation, pivotX, pivotYRelation, pivotY);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1449,7 +3501,7 @@ public class Animus {
          * @return RotateAnimation
          */
         public Animation rotateSelf(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation = new RotateAnimation(fd, td, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_RELATIVE_TO_SELF, fd, td, Animation.RELATIVE_TO_SELF, pivotX, Animation.RELATIVE_TO_SELF, pivotY);
             return setDefaults(animation, duration, fillAfter);
         }
 
@@ -1465,8 +3517,235 @@ public class Animus {
          * @return RotateAnimation
          */
         public Animation rotateToParent(float fd, float td, float pivotX, float pivotY, int duration, boolean fillAfter) {
-            Animation animation =  new RotateAnimation(fd, td, Animation.RELATIVE_TO_PARENT, pivotX, Animation.RELATIVE_TO_PARENT, pivotY);
+            Animation animation = AnimationFactory.rotate(AnimationFactory.ROTATE_RELATIVE_TO_PARENT, fd, td, Animation.RELATIVE_TO_PARENT, pivotX, Animation.RELATIVE_TO_PARENT, pivotY);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        //================================== Keyframes =============================================
+
+        /**
+         * Animation without tracks, set them with KeyframeAnimation methods
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public KeyframeAnimation keyframes(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_CUSTOM);
+            return (KeyframeAnimation) setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate horizontal moving through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values horizontal factors relative to self at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation keyframesMoveX(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_MOVE_X);
+            animation.setTranslationX(Animation.RELATIVE_TO_SELF, times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate vertical moving through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values vertical factors relative to self at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation keyframesMoveY(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_MOVE_Y);
+            animation.setTranslationY(Animation.RELATIVE_TO_SELF, times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate scale through keyframes with pivot in the center of the view
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values scale factors at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation keyframesScale(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_SCALE);
+            animation.setScaleX(times, values).setScaleY(times, values)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate rotation through keyframes with pivot in the center of the view
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values degrees at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation keyframesRotate(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_ROTATE);
+            animation.setRotation(times, values)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Animate opacity through keyframes
+         *
+         * @param times keyframe times from 0 to 1 in ascending order
+         * @param values opacity at the keyframe times
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation keyframesAlpha(float[] times, float[] values, int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_ALPHA);
+            animation.setAlpha(times, values);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Shake the view horizontally and return it to place
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation shake(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_SHAKE);
+            animation.setTranslationX(Animation.RELATIVE_TO_SELF, Keyframe.SHAKE_TIMES, Keyframe.SHAKE_VALUES);
+            return setDefaults(animation, duration, fillAfter);
+        }
+
+        /**
+         * Bounce the view in place by scaling it around its center
+         *
+         * @param duration duration in milliseconds
+         * @param fillAfter true if the animation should apply its transformation after it ends
+         * @return KeyframeAnimation
+         */
+        public Animation bounce(int duration, boolean fillAfter) {
+            KeyframeAnimation animation = AnimationFactory.keyframes(AnimationFactory.KEYFRAME_BOUNCE);
+            animation.setScaleX(Keyframe.BOUNCE_TIMES, Keyframe.BOUNCE_VALUES).setScaleY(Keyframe.BOUNCE_TIMES, Keyframe.BOUNCE_VALUES)
+                    .setPivot(Animation.RELATIVE_TO_SELF, 0.5f, Animation.RELATIVE_TO_SELF, 0.5f);
             return setDefaults(animation, duration, fillAfter);
         }
+
+        //================================== Lifecycle =============================================
+
+        /**
+         * Register every animation created by this instance and every view it starts animations on,
+         * so they can be paused, resumed and cancelled together.
+         * Includes animations of specs, groups and prebuilt animations of this instance
+         *
+         * @param tracking True to track animations, false to stop and forget tracked ones
+         */
+        public Animus.Instance setTracking(boolean tracking) {
+            if (tracking && registry == null) {
+                registry = new AnimationRegistry();
+            }
+            else if (!tracking) {
+                registry = null;
+            }
+            return this;
+        }
+
+        /**
+         * Returns whether animations of this instance are tracked
+         *
+         * @return Current tracking value
+         */
+        public boolean isTracking() {
+            return registry != null;
+        }
+
+        /**
+         * Track animations and bind them to the Activity: they are paused when it stops,
+         * resumed when it starts again and cancelled when it is destroyed
+         *
+         * @param activity Activity the animations belong to
+         */
+        public Animus.Instance bindTo(Activity activity) {
+            setTracking(true);
+            LifecycleBinding.bind(activity, this);
+            return this;
+        }
+
+        /**
+         * Track animations and bind them to the Fragment: they are paused when it stops,
+         * resumed when it starts again and cancelled when its view is destroyed
+         *
+         * @param fragment Fragment added to a FragmentManager
+         */
+        public Animus.Instance bindTo(Fragment fragment) {
+            setTracking(true);
+            LifecycleBinding.bind(fragment, this);
+            return this;
+        }
+
+        /**
+         * Pause running tracked animations. Animations started via start are detached from their views,
+         * so paused screens don't redraw. Must be called from the main thread
+         */
+        public void pauseAll() {
+            AnimationRegistry registry = this.registry;
+            if (registry != null) registry.pause();
+        }
+
+        /**
+         * Continue paused animations from where they stopped, their listeners receive onAnimationStart again.
+         * Must be called from the main thread
+         */
+        public void resumeAll() {
+            AnimationRegistry registry = this.registry;
+            if (registry != null) registry.resume();
+        }
+
+        /**
+         * Cancel tracked and paused animations and forget them, animations are released to the pool
+         * if the pooled mode is enabled. Must be called from the main thread
+         */
+        public void cancelAll() {
+            AnimationRegistry registry = this.registry;
+            if (registry != null) registry.cancel();
+        }
+
+        /**
+         * Returns whether tracked animations are paused
+         *
+         * @return True if pauseAll paused some animations which are not resumed yet
+         */
+        public boolean isPaused() {
+            AnimationRegistry registry = this.registry;
+            return registry != null && registry.isPaused();
+        }
+
+        /**
+         * Register the animation created from this instance, its factories, specs or groups, if tracking
+         */
+        void track(Animation animation) {
+            AnimationRegistry registry = this.registry;
+            if (registry != null) {
+                registry.add(animation);
+            }
+        }
+
+        /**
+         * Register the view an animation of this instance is started on, if tracking
+         */
+        void track(View view) {
+            AnimationRegistry registry = this.registry;
+            if (registry != null) {
+                registry.add(view);
+            }
+        }
     }
 }
@@ -0,0 +1,79 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Value moving with initial velocity and slowed down by friction,
+ * stops when it is slow enough or reaches a bound
+ */
+final class FlingIntegrator extends PhysicsIntegrator {
+
+    private float friction;
+    // Velocity multiplier of one step, exp(-friction * step)
+    private float stepDecay;
+    private float min = -Float.MAX_VALUE;
+    private float max = Float.MAX_VALUE;
+
+    /**
+     * Set friction and bounds of the motion
+     *
+     * @param friction Friction, positive, velocity falls e times in 1 / friction seconds
+     * @param min Lowest value
+     * @param max Highest value
+     */
+    void setParameters(float friction, float min, float max) {
+        checkParameters(friction, min, max);
+        if (friction != this.friction) {
+            this.friction = friction;
+            stepDecay = (float) Math.exp(-friction * STEP_SECONDS);
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Throw if fling parameters are invalid, before anything is changed
+     */
+    static void checkParameters(float friction, float min, float max) {
+        if (friction <= 0) {
+            throw new IllegalArgumentException("Friction must be positive: " + friction);
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("Min is greater than max: " + min + " > " + max);
+        }
+    }
+
+    @Override
+    void step(float seconds) {
+        velocity *= stepDecay;
+        value += velocity * seconds;
+        if (value <= min || value >= max) {
+            value = Math.max(min, Math.min(max, value));
+            velocity = 0;
+        }
+    }
+
+    @Override
+    boolean isSettled() {
+        return Math.abs(velocity) < velocityThreshold;
+    }
+
+    @Override
+    void settle() {
+        velocity = 0;
+    }
+}
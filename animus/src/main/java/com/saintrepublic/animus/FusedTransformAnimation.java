@@ -0,0 +1,237 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.graphics.Matrix;
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+
+/**
+ * Animation of translation, scale, rotation and alpha computed in one pass.
+ * Points are scaled first, then rotated, then translated, like an AnimationSet
+ * of ScaleAnimation, RotateAnimation and TranslateAnimation added in this order,
+ * but each frame writes a single matrix instead of concatenating three.
+ * Pivots and translation values are resolved once when the animation is initialized
+ */
+public class FusedTransformAnimation extends Animation {
+
+    private boolean hasTranslate;
+    private int fromXType, toXType, fromYType, toYType;
+    private float fromXValue, toXValue, fromYValue, toYValue;
+
+    private boolean hasScale;
+    private float fromScaleX = 1, toScaleX = 1, fromScaleY = 1, toScaleY = 1;
+    private int scalePivotXType, scalePivotYType;
+    private float scalePivotXValue, scalePivotYValue;
+
+    private boolean hasRotate;
+    private float fromDegrees, toDegrees;
+    private int rotatePivotXType, rotatePivotYType;
+    private float rotatePivotXValue, rotatePivotYValue;
+
+    private boolean hasAlpha;
+    private float fromAlpha = 1, toAlpha = 1;
+
+    // Values resolved in initialize
+    private float fromX, toX, fromY, toY;
+    private float scalePivotX, scalePivotY;
+    private float rotatePivotX, rotatePivotY;
+
+    // Matrix values written on every frame
+    private final float[] values = new float[9];
+
+    /**
+     * Constructor of animation without any effect, set effects with set methods before starting it
+     */
+    public FusedTransformAnimation() {
+        values[Matrix.MPERSP_2] = 1;
+    }
+
+    /**
+     * Set moving of the animation
+     *
+     * @param fromXType specifies how fromXValue should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF, or Animation.RELATIVE_TO_PARENT.
+     * @param fromXValue staring horizontal factor
+     * @param toXType specifies how toXValue should be interpreted
+     * @param toXValue ending horizontal factor
+     * @param fromYType specifies how fromYValue should be interpreted
+     * @param fromYValue starting vertical factor
+     * @param toYType specifies how toYValue should be interpreted
+     * @param toYValue ending vertical factor
+     * @return This animation
+     */
+    public FusedTransformAnimation setTranslate(int fromXType, float fromXValue, int toXType, float toXValue,
+                                                int fromYType, float fromYValue, int toYType, float toYValue) {
+        hasTranslate = true;
+        this.fromXType = fromXType;
+        this.fromXValue = fromXValue;
+        this.toXType = toXType;
+        this.toXValue = toXValue;
+        this.fromYType = fromYType;
+        this.fromYValue = fromYValue;
+        this.toYType = toYType;
+        this.toYValue = toYValue;
+        return this;
+    }
+
+    /**
+     * Set scaling of the animation
+     *
+     * @param fromX horizontal factor at start of animation
+     * @param toX horizontal factor at the end
+     * @param fromY vertical factor at start of animation
+     * @param toY vertical factor at the end
+     * @param pivotXType specifies how pivotXValue should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+     * @param pivotXValue pivot horizontal position
+     * @param pivotYType specifies how pivotYValue should be interpreted
+     * @param pivotYValue pivot vertical position
+     * @return This animation
+     */
+    public FusedTransformAnimation setScale(float fromX, float toX, float fromY, float toY,
+                                            int pivotXType, float pivotXValue, int pivotYType, float pivotYValue) {
+        hasScale = true;
+        fromScaleX = fromX;
+        toScaleX = toX;
+        fromScaleY = fromY;
+        toScaleY = toY;
+        scalePivotXType = pivotXType;
+        scalePivotXValue = pivotXValue;
+        scalePivotYType = pivotYType;
+        scalePivotYValue = pivotYValue;
+        return this;
+    }
+
+    /**
+     * Set rotation of the animation
+     *
+     * @param fromDegrees starting degrees
+     * @param toDegrees ending degrees
+     * @param pivotXType specifies how pivotXValue should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+     * @param pivotXValue horizontal pivot position
+     * @param pivotYType specifies how pivotYValue should be interpreted
+     * @param pivotYValue vertical pivot position
+     * @return This animation
+     */
+    public FusedTransformAnimation setRotate(float fromDegrees, float toDegrees,
+                                             int pivotXType, float pivotXValue, int pivotYType, float pivotYValue) {
+        hasRotate = true;
+        this.fromDegrees = fromDegrees;
+        this.toDegrees = toDegrees;
+        rotatePivotXType = pivotXType;
+        rotatePivotXValue = pivotXValue;
+        rotatePivotYType = pivotYType;
+        rotatePivotYValue = pivotYValue;
+        return this;
+    }
+
+    /**
+     * Set opacity changing of the animation
+     *
+     * @param fromAlpha opacity at the start of animation
+     * @param toAlpha opacity at the end of animation
+     * @return This animation
+     */
+    public FusedTransformAnimation setAlpha(float fromAlpha, float toAlpha) {
+        hasAlpha = true;
+        this.fromAlpha = fromAlpha;
+        this.toAlpha = toAlpha;
+        return this;
+    }
+
+    @Override
+    public void initialize(int width, int height, int parentWidth, int parentHeight) {
+        super.initialize(width, height, parentWidth, parentHeight);
+        fromX = resolveSize(fromXType, fromXValue, width, parentWidth);
+        toX = resolveSize(toXType, toXValue, width, parentWidth);
+        fromY = resolveSize(fromYType, fromYValue, height, parentHeight);
+        toY = resolveSize(toYType, toYValue, height, parentHeight);
+        scalePivotX = resolveSize(scalePivotXType, scalePivotXValue, width, parentWidth);
+        scalePivotY = resolveSize(scalePivotYType, scalePivotYValue, height, parentHeight);
+        rotatePivotX = resolveSize(rotatePivotXType, rotatePivotXValue, width, parentWidth);
+        rotatePivotY = resolveSize(rotatePivotYType, rotatePivotYValue, height, parentHeight);
+    }
+
+    @Override
+    protected void applyTransformation(float interpolatedTime, Transformation t) {
+        if (hasAlpha) {
+            t.setAlpha(fromAlpha + (toAlpha - fromAlpha) * interpolatedTime);
+        }
+        if (!hasTranslate && !hasScale && !hasRotate) {
+            return;
+        }
+
+        float pivotScale = getScaleFactor();
+        float sx = fromScaleX + (toScaleX - fromScaleX) * interpolatedTime;
+        float sy = fromScaleY + (toScaleY - fromScaleY) * interpolatedTime;
+        float degrees = hasRotate ? fromDegrees + (toDegrees - fromDegrees) * interpolatedTime : 0;
+        float dx = hasTranslate ? fromX + (toX - fromX) * interpolatedTime : 0;
+        float dy = hasTranslate ? fromY + (toY - fromY) * interpolatedTime : 0;
+        setTransform(t.getMatrix(), values, sx, sy, scalePivotX * pivotScale, scalePivotY * pivotScale,
+                degrees, rotatePivotX * pivotScale, rotatePivotY * pivotScale, dx, dy);
+    }
+
+    /**
+     * Write scale about its pivot, then rotation about its pivot, then translation into the matrix
+     *
+     * @param matrix Target matrix
+     * @param values Buffer of 9 matrix values with 1 in MPERSP_2
+     */
+    static void setTransform(Matrix matrix, float[] values, float sx, float sy, float scalePivotX, float scalePivotY,
+                             float degrees, float rotatePivotX, float rotatePivotY, float dx, float dy) {
+        // Scale about its pivot: x' = sx * x + ox
+        float ox = scalePivotX * (1 - sx);
+        float oy = scalePivotY * (1 - sy);
+
+        float cos = 1;
+        float sin = 0;
+        if (degrees != 0) {
+            double radians = Math.toRadians(degrees);
+            cos = (float) Math.cos(radians);
+            sin = (float) Math.sin(radians);
+        }
+
+        values[Matrix.MSCALE_X] = cos * sx;
+        values[Matrix.MSKEW_X] = -sin * sy;
+        values[Matrix.MTRANS_X] = cos * (ox - rotatePivotX) - sin * (oy - rotatePivotY) + rotatePivotX + dx;
+        values[Matrix.MSKEW_Y] = sin * sx;
+        values[Matrix.MSCALE_Y] = cos * sy;
+        values[Matrix.MTRANS_Y] = sin * (ox - rotatePivotX) + cos * (oy - rotatePivotY) + rotatePivotY + dy;
+        matrix.setValues(values);
+    }
+
+    @Override
+    public boolean willChangeTransformationMatrix() {
+        return hasTranslate || hasScale || hasRotate;
+    }
+
+    @Override
+    public boolean willChangeBounds() {
+        return hasScale || hasRotate;
+    }
+
+    /**
+     * Returns whether the animation changes opacity
+     *
+     * @return True if alpha is set
+     */
+    public boolean hasAlpha() {
+        return hasAlpha;
+    }
+}
@@ -0,0 +1,140 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.support.v4.view.animation.FastOutLinearInInterpolator;
+import android.support.v4.view.animation.FastOutSlowInInterpolator;
+import android.support.v4.view.animation.LinearOutSlowInInterpolator;
+import android.util.LongSparseArray;
+import android.view.animation.AccelerateDecelerateInterpolator;
+import android.view.animation.AccelerateInterpolator;
+import android.view.animation.AnticipateInterpolator;
+import android.view.animation.AnticipateOvershootInterpolator;
+import android.view.animation.BounceInterpolator;
+import android.view.animation.CycleInterpolator;
+import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+import android.view.animation.OvershootInterpolator;
+
+/**
+ * Registry of shared interpolators.
+ * All interpolators of Animus.Interpolation are stateless,
+ * so a single instance of each type and parameter is shared by every animation.
+ */
+final class Interpolators {
+
+    // Number of Animus.Interpolation types
+    static final int COUNT = 12;
+
+    private static final Interpolator[] shared = {
+            new AccelerateInterpolator(),
+            new DecelerateInterpolator(),
+            new AccelerateDecelerateInterpolator(),
+            new AnticipateInterpolator(),
+            new OvershootInterpolator(),
+            new AnticipateOvershootInterpolator(),
+            new BounceInterpolator(),
+            new CycleInterpolator(1),
+            new LinearInterpolator(),
+            new FastOutLinearInInterpolator(),
+            new FastOutSlowInInterpolator(),
+            new LinearOutSlowInInterpolator()
+    };
+
+    // Lookup table versions of shared interpolators, baked on first use
+    private static final Interpolator[] baked = new Interpolator[COUNT];
+
+    // Parameterized interpolators keyed by type in the high bits and parameter bits in the low bits
+    private static final LongSparseArray<Interpolator> parameterized = new LongSparseArray<>();
+
+    private Interpolators() {}
+
+    /**
+     * Returns shared interpolator of the type, linear for unknown types
+     */
+    static Interpolator get(int type) {
+        return type >= 0 && type < COUNT ? shared[type] : shared[Animus.Interpolation.LINEAR];
+    }
+
+    /**
+     * Returns shared interpolator of the type baked into a lookup table.
+     * Linear interpolator is cheaper than any table and is returned as is.
+     */
+    static Interpolator getBaked(int type) {
+        if (type < 0 || type >= COUNT || type == Animus.Interpolation.LINEAR) {
+            return get(type);
+        }
+
+        synchronized (baked) {
+            if (baked[type] == null) {
+                baked[type] = new LookupTableInterpolator(shared[type]);
+            }
+            return baked[type];
+        }
+    }
+
+    /**
+     * Returns shared interpolator of the type with the parameter:
+     * factor for ACCELERATE and DECELERATE, tension for ANTICIPATE, OVERSHOOT and ANTICIPATE_OVERSHOOT
+     * and number of cycles for CYCLE. Other types have no parameter.
+     */
+    static Interpolator get(int type, float parameter) {
+        switch (type) {
+            case Animus.Interpolation.ACCELERATE:
+            case Animus.Interpolation.DECELERATE:
+            case Animus.Interpolation.ANTICIPATE:
+            case Animus.Interpolation.OVERSHOOT:
+            case Animus.Interpolation.ANTICIPATE_OVERSHOOT:
+            case Animus.Interpolation.CYCLE: break;
+            default: return get(type);
+        }
+
+        long key = ((long) type << 32) | (Float.floatToIntBits(parameter) & 0xFFFFFFFFL);
+        synchronized (parameterized) {
+            Interpolator interpolator = parameterized.get(key);
+            if (interpolator == null) {
+                interpolator = create(type, parameter);
+                parameterized.put(key, interpolator);
+            }
+            return interpolator;
+        }
+    }
+
+    private static Interpolator create(int type, float parameter) {
+        switch (type) {
+            case Animus.Interpolation.ACCELERATE: { return new AccelerateInterpolator(parameter);}
+            case Animus.Interpolation.DECELERATE: { return new DecelerateInterpolator(parameter);}
+            case Animus.Interpolation.ANTICIPATE: { return new AnticipateInterpolator(parameter);}
+            case Animus.Interpolation.OVERSHOOT: { return new OvershootInterpolator(parameter);}
+            case Animus.Interpolation.ANTICIPATE_OVERSHOOT: { return new AnticipateOvershootInterpolator(parameter);}
+            default: { return new CycleInterpolator(parameter);}
+        }
+    }
+
+    /**
+     * Returns type of the shared interpolator or -1 if the interpolator is not shared
+     */
+    static int typeOf(Interpolator interpolator) {
+        for (int type = 0; type < COUNT; type++) {
+            if (shared[type] == interpolator) {
+                return type;
+            }
+        }
+        return -1;
+    }
+}
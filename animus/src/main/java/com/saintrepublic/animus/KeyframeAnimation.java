@@ -0,0 +1,196 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.graphics.Matrix;
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+
+/**
+ * Multi-stage animation like shake or bounce in place, created by Animus.Keyframe.
+ * Every property has its own track of values at keyframe times from 0 to 1,
+ * values between keyframes are linear and the animation interpolator maps time to the tracks.
+ * Scale and rotation use one pivot, points are scaled, rotated and then translated in one matrix
+ */
+public class KeyframeAnimation extends Animation {
+
+    private KeyframeTrack translationX, translationY;
+    private int translationXType, translationYType;
+    private KeyframeTrack scaleX, scaleY;
+    private KeyframeTrack rotation;
+    private KeyframeTrack alpha;
+
+    private int pivotXType = ABSOLUTE, pivotYType = ABSOLUTE;
+    private float pivotXValue, pivotYValue;
+
+    // Values resolved in initialize
+    private float translationXFactor, translationYFactor;
+    private float pivotX, pivotY;
+
+    // Matrix values written on every frame
+    private final float[] values = new float[9];
+
+    /**
+     * Constructor of animation without tracks, set tracks before starting it
+     */
+    public KeyframeAnimation() {
+        values[Matrix.MPERSP_2] = 1;
+    }
+
+    /**
+     * Set horizontal moving track
+     *
+     * @param relation specifies how values should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF, or Animation.RELATIVE_TO_PARENT.
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values horizontal factors at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setTranslationX(int relation, float[] times, float[] values) {
+        translationX = new KeyframeTrack(times, values);
+        translationXType = relation;
+        return this;
+    }
+
+    /**
+     * Set vertical moving track
+     *
+     * @param relation specifies how values should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF, or Animation.RELATIVE_TO_PARENT.
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values vertical factors at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setTranslationY(int relation, float[] times, float[] values) {
+        translationY = new KeyframeTrack(times, values);
+        translationYType = relation;
+        return this;
+    }
+
+    /**
+     * Set horizontal scale track
+     *
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values horizontal scale factors at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setScaleX(float[] times, float[] values) {
+        scaleX = new KeyframeTrack(times, values);
+        return this;
+    }
+
+    /**
+     * Set vertical scale track
+     *
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values vertical scale factors at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setScaleY(float[] times, float[] values) {
+        scaleY = new KeyframeTrack(times, values);
+        return this;
+    }
+
+    /**
+     * Set rotation track
+     *
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values degrees at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setRotation(float[] times, float[] values) {
+        rotation = new KeyframeTrack(times, values);
+        return this;
+    }
+
+    /**
+     * Set opacity track
+     *
+     * @param times keyframe times from 0 to 1 in ascending order
+     * @param values opacity at the keyframe times
+     * @return This animation
+     */
+    public KeyframeAnimation setAlpha(float[] times, float[] values) {
+        alpha = new KeyframeTrack(times, values);
+        return this;
+    }
+
+    /**
+     * Set pivot of scale and rotation, top left corner of the view by default
+     *
+     * @param pivotXRelation specifies how pivotX should be interpreted. One of
+     *        Animation.ABSOLUTE, Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT
+     * @param pivotX pivot horizontal position
+     * @param pivotYRelation specifies how pivotY should be interpreted
+     * @param pivotY pivot vertical position
+     * @return This animation
+     */
+    public KeyframeAnimation setPivot(int pivotXRelation, float pivotX, int pivotYRelation, float pivotY) {
+        pivotXType = pivotXRelation;
+        pivotXValue = pivotX;
+        pivotYType = pivotYRelation;
+        pivotYValue = pivotY;
+        return this;
+    }
+
+    @Override
+    public void initialize(int width, int height, int parentWidth, int parentHeight) {
+        super.initialize(width, height, parentWidth, parentHeight);
+        translationXFactor = resolveSize(translationXType, 1, width, parentWidth);
+        translationYFactor = resolveSize(translationYType, 1, height, parentHeight);
+        pivotX = resolveSize(pivotXType, pivotXValue, width, parentWidth);
+        pivotY = resolveSize(pivotYType, pivotYValue, height, parentHeight);
+    }
+
+    @Override
+    protected void applyTransformation(float interpolatedTime, Transformation t) {
+        if (alpha != null) {
+            t.setAlpha(alpha.getValue(interpolatedTime));
+        }
+        if (!willChangeTransformationMatrix()) {
+            return;
+        }
+
+        float sx = scaleX != null ? scaleX.getValue(interpolatedTime) : 1;
+        float sy = scaleY != null ? scaleY.getValue(interpolatedTime) : 1;
+        float degrees = rotation != null ? rotation.getValue(interpolatedTime) : 0;
+        float dx = translationX != null ? translationX.getValue(interpolatedTime) * translationXFactor : 0;
+        float dy = translationY != null ? translationY.getValue(interpolatedTime) * translationYFactor : 0;
+        float pivotScale = getScaleFactor();
+        FusedTransformAnimation.setTransform(t.getMatrix(), values, sx, sy, pivotX * pivotScale, pivotY * pivotScale,
+                degrees, pivotX * pivotScale, pivotY * pivotScale, dx, dy);
+    }
+
+    @Override
+    public boolean willChangeTransformationMatrix() {
+        return translationX != null || translationY != null || scaleX != null || scaleY != null || rotation != null;
+    }
+
+    @Override
+    public boolean willChangeBounds() {
+        return scaleX != null || scaleY != null || rotation != null;
+    }
+
+    /**
+     * Returns whether the animation changes opacity
+     *
+     * @return True if opacity track is set
+     */
+    public boolean hasAlpha() {
+        return alpha != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Values of one property at keyframe times, linearly interpolated between keyframes.
+ * The segment found last is remembered, frames of a running animation move forward
+ * through it or to the next one, other times are binary searched
+ */
+final class KeyframeTrack {
+
+    private final float[] times;
+    private final float[] values;
+
+    // Index of the keyframe starting the segment found last
+    private int segment;
+
+    /**
+     * @param times Keyframe times from 0 to 1 in ascending order
+     * @param values Property values at the keyframe times
+     * @throws IllegalArgumentException if arrays are empty, of different length or times are not ascending
+     */
+    KeyframeTrack(float[] times, float[] values) {
+        if (times == null || values == null || times.length == 0 || times.length != values.length) {
+            throw new IllegalArgumentException("Times and values must be non-empty arrays of the same length");
+        }
+        for (int i = 0; i < times.length; i++) {
+            if (times[i] < 0 || times[i] > 1 || (i > 0 && times[i] < times[i - 1])) {
+                throw new IllegalArgumentException("Times must ascend from 0 to 1: " + Arrays.toString(times));
+            }
+        }
+        this.times = times.clone();
+        this.values = values.clone();
+    }
+
+    float getValue(float fraction) {
+        float[] times = this.times;
+        int last = times.length - 1;
+        if (fraction <= times[0]) {
+            return values[0];
+        }
+        if (fraction >= times[last]) {
+            return values[last];
+        }
+
+        int i = segment;
+        if (fraction < times[i] || fraction >= times[i + 1]) {
+            if (i + 2 <= last && fraction >= times[i + 1] && fraction < times[i + 2]) {
+                i++;
+            }
+            else {
+                i = Arrays.binarySearch(times, fraction);
+                if (i < 0) {
+                    i = -i - 2;
+                }
+                // Equal times make a jump, the search may land on any of them
+                while (i < last - 1 && times[i + 1] <= fraction) {
+                    i++;
+                }
+            }
+            segment = i;
+        }
+
+        float span = times[i + 1] - times[i];
+        float from = values[i];
+        return from + (values[i + 1] - from) * (fraction - times[i]) / span;
+    }
+
+    float getStartValue() {
+        return values[0];
+    }
+
+    float getEndValue() {
+        return values[values.length - 1];
+    }
+}
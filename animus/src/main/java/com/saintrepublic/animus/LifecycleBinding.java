@@ -0,0 +1,120 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentManager;
+
+/**
+ * Lifecycle callbacks pausing animations of Animus.Instance when the screen stops,
+ * resuming them when it starts again and cancelling them when it is destroyed.
+ * Callbacks unregister themselves on destroy, so the screen is not kept by the binding.
+ */
+final class LifecycleBinding {
+
+    private LifecycleBinding() {}
+
+    static void bind(Activity activity, Animus.Instance instance) {
+        activity.getApplication().registerActivityLifecycleCallbacks(new ActivityBinding(activity, instance));
+    }
+
+    static void bind(Fragment fragment, Animus.Instance instance) {
+        FragmentManager manager = fragment.getFragmentManager();
+        if (manager == null) {
+            throw new IllegalStateException("Fragment is not added to a FragmentManager");
+        }
+        manager.registerFragmentLifecycleCallbacks(new FragmentBinding(fragment, instance), false);
+    }
+
+    private static final class ActivityBinding implements Application.ActivityLifecycleCallbacks {
+
+        private final Activity activity;
+        private final Animus.Instance instance;
+
+        ActivityBinding(Activity activity, Animus.Instance instance) {
+            this.activity = activity;
+            this.instance = instance;
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+            if (activity == this.activity) instance.resumeAll();
+        }
+
+        @Override
+        public void onActivityStopped(Activity activity) {
+            if (activity == this.activity) instance.pauseAll();
+        }
+
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+            if (activity == this.activity) {
+                instance.cancelAll();
+                activity.getApplication().unregisterActivityLifecycleCallbacks(this);
+            }
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {}
+
+        @Override
+        public void onActivityResumed(Activity activity) {}
+
+        @Override
+        public void onActivityPaused(Activity activity) {}
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {}
+    }
+
+    private static final class FragmentBinding extends FragmentManager.FragmentLifecycleCallbacks {
+
+        private final Fragment fragment;
+        private final Animus.Instance instance;
+
+        FragmentBinding(Fragment fragment, Animus.Instance instance) {
+            this.fragment = fragment;
+            this.instance = instance;
+        }
+
+        @Override
+        public void onFragmentStarted(FragmentManager manager, Fragment fragment) {
+            if (fragment == this.fragment) instance.resumeAll();
+        }
+
+        @Override
+        public void onFragmentStopped(FragmentManager manager, Fragment fragment) {
+            if (fragment == this.fragment) instance.pauseAll();
+        }
+
+        @Override
+        public void onFragmentViewDestroyed(FragmentManager manager, Fragment fragment) {
+            if (fragment == this.fragment) instance.cancelAll();
+        }
+
+        @Override
+        public void onFragmentDestroyed(FragmentManager manager, Fragment fragment) {
+            if (fragment == this.fragment) {
+                instance.cancelAll();
+                manager.unregisterFragmentLifecycleCallbacks(this);
+            }
+        }
+    }
+}
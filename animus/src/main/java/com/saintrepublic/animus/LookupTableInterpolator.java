@@ -0,0 +1,146 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Interpolator;
+
+/**
+ * Interpolator baked into a table of evenly spaced samples of another interpolator.
+ * Values between samples are interpolated linearly, so every frame costs
+ * one multiplication and one lookup regardless of the original curve.
+ */
+public final class LookupTableInterpolator implements Interpolator {
+
+    // Default maximum deviation from the original curve
+    public static final float DEFAULT_MAX_ERROR = 0.001f;
+
+    static final int MIN_SAMPLES = 17;
+    static final int MAX_SAMPLES = 4097;
+
+    // Number of points checked between two neighbouring samples
+    private static final int CHECKS_PER_SEGMENT = 8;
+
+    private final float[] values;
+    private final float lastIndex;
+    private final float maxError;
+
+    /**
+     * Bake interpolator with default error bound
+     *
+     * @param source Interpolator to bake
+     */
+    public LookupTableInterpolator(Interpolator source) {
+        this(source, DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Bake interpolator with the smallest table which keeps the deviation
+     * from the original curve within the error bound. The table never exceeds
+     * 4097 samples, check getMaxError for the error actually reached.
+     *
+     * @param source Interpolator to bake
+     * @param maxError Maximum deviation from the original curve
+     */
+    public LookupTableInterpolator(Interpolator source, float maxError) {
+        if (!(maxError > 0)) {
+            throw new IllegalArgumentException("Error bound must be positive: " + maxError);
+        }
+
+        float[] table = sample(source, MIN_SAMPLES);
+        float error = measure(source, table);
+        while (error > maxError && table.length < MAX_SAMPLES) {
+            table = sample(source, (table.length - 1) * 2 + 1);
+            error = measure(source, table);
+        }
+
+        this.values = table;
+        this.lastIndex = table.length - 1;
+        this.maxError = error;
+    }
+
+    /**
+     * Bake interpolator into a table of fixed size
+     *
+     * @param source Interpolator to bake
+     * @param samples Number of samples, at least 2
+     */
+    public LookupTableInterpolator(Interpolator source, int samples) {
+        if (samples < 2) {
+            throw new IllegalArgumentException("At least 2 samples required: " + samples);
+        }
+
+        this.values = sample(source, samples);
+        this.lastIndex = samples - 1;
+        this.maxError = measure(source, values);
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+        if (input <= 0) {
+            return values[0];
+        }
+        if (input >= 1) {
+            return values[values.length - 1];
+        }
+
+        float position = input * lastIndex;
+        int index = (int) position;
+        float start = values[index];
+        return start + (values[index + 1] - start) * (position - index);
+    }
+
+    /**
+     * Returns number of samples in the table
+     *
+     * @return Table size
+     */
+    public int getSampleCount() {
+        return values.length;
+    }
+
+    /**
+     * Returns maximum deviation from the original curve measured while baking
+     *
+     * @return Maximum absolute error
+     */
+    public float getMaxError() {
+        return maxError;
+    }
+
+    private static float[] sample(Interpolator source, int samples) {
+        float[] table = new float[samples];
+        float last = samples - 1;
+        for (int i = 0; i < samples; i++) {
+            table[i] = source.getInterpolation(i / last);
+        }
+        return table;
+    }
+
+    private static float measure(Interpolator source, float[] table) {
+        int segments = table.length - 1;
+        float error = 0;
+        for (int i = 0; i < segments; i++) {
+            for (int check = 1; check < CHECKS_PER_SEGMENT; check++) {
+                float fraction = (float) check / CHECKS_PER_SEGMENT;
+                float expected = source.getInterpolation((i + fraction) / segments);
+                float actual = table[i] + (table[i + 1] - table[i]) * fraction;
+                error = Math.max(error, Math.abs(expected - actual));
+            }
+        }
+        return error;
+    }
+}
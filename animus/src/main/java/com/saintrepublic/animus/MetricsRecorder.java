@@ -0,0 +1,343 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+/**
+ * Collects frame timing of animations for Animus.Metrics sinks.
+ * While no sink is set factories only check a single flag and nothing is allocated.
+ */
+final class MetricsRecorder implements Choreographer.FrameCallback {
+
+    // Default interval of a 60 fps display
+    static final long DEFAULT_FRAME_INTERVAL_NANOS = 16666667;
+
+    // Time after the expected end when a running animation which got no end is considered abandoned
+    private static final long OVERDUE_MILLIS = 1000;
+
+    private static final MetricsRecorder instance = new MetricsRecorder();
+
+    // Factory calls are recorded only while at least one sink is set
+    private static volatile boolean enabled;
+    private static volatile Animus.Metrics.Sink staticSink;
+    private static int instanceSinks;
+
+    private static volatile long frameIntervalNanos = DEFAULT_FRAME_INTERVAL_NANOS;
+
+    // Records of created animations, until they are collected
+    private static final WeakHashMap<Animation, Record> records = new WeakHashMap<>();
+
+    // Records of running animations, touched only on the main thread
+    private final ArrayList<Record> active = new ArrayList<>();
+    private boolean scheduled;
+
+    private MetricsRecorder() {}
+
+    static MetricsRecorder getInstance() {
+        return instance;
+    }
+
+    static synchronized void setStaticSink(Animus.Metrics.Sink sink) {
+        staticSink = sink;
+        updateEnabled();
+    }
+
+    static Animus.Metrics.Sink getStaticSink() {
+        return staticSink;
+    }
+
+    /**
+     * Track sink of Animus.Instance changing between null and non-null
+     */
+    static synchronized void instanceSinkChanged(Animus.Metrics.Sink previous, Animus.Metrics.Sink sink) {
+        if (previous == null && sink != null) {
+            instanceSinks++;
+        }
+        else if (previous != null && sink == null) {
+            instanceSinks--;
+        }
+        updateEnabled();
+    }
+
+    private static void updateEnabled() {
+        enabled = staticSink != null || instanceSinks > 0;
+        if (!enabled) {
+            synchronized (records) {
+                records.clear();
+            }
+        }
+    }
+
+    static void setFrameIntervalNanos(long interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Frame interval must be positive: " + interval);
+        }
+        frameIntervalNanos = interval;
+    }
+
+    static long getFrameIntervalNanos() {
+        return frameIntervalNanos;
+    }
+
+    /**
+     * Remember the factory and the time of the factory call
+     *
+     * @return The animation
+     */
+    static Animation created(int factory, Animation animation) {
+        if (enabled) {
+            Record record = new Record(factory, System.nanoTime());
+            synchronized (records) {
+                records.put(animation, record);
+            }
+        }
+        return animation;
+    }
+
+    /**
+     * Returns listener measuring the animation for the sink and forwarding events to the listener,
+     * or the listener itself if there is no sink
+     */
+    static Animation.AnimationListener listenerFor(Animation animation, Animation.AnimationListener listener,
+                                                   Animus.Metrics.Sink sink) {
+        if (sink == null) {
+            return listener;
+        }
+
+        Record record;
+        synchronized (records) {
+            record = records.get(animation);
+            if (record == null) {
+                record = new Record(-1, System.nanoTime());
+                records.put(animation, record);
+            }
+        }
+        record.delegate = listener;
+        record.sink = sink;
+        return record;
+    }
+
+    /**
+     * Remember the view the animation is started on,
+     * so the record is dropped if the animation leaves the view without end
+     */
+    static void startedOn(Animation animation, View view) {
+        if (enabled) {
+            Record record;
+            synchronized (records) {
+                record = records.get(animation);
+            }
+            if (record != null) {
+                record.view = new WeakReference<>(view);
+            }
+        }
+    }
+
+    /**
+     * Stop measuring the running animation replaced on its view, it gets no more frames and no end.
+     * Must be called from the main thread
+     */
+    static void replaced(Animation animation) {
+        Record record = startedRecord(animation);
+        if (record != null) {
+            instance.deactivate(record);
+            record.drop();
+        }
+    }
+
+    /**
+     * Stop measuring frames of the paused animation, it is kept until it is resumed or replaced.
+     * Must be called from the main thread
+     */
+    static void suspend(Animation animation) {
+        Record record = startedRecord(animation);
+        if (record != null) {
+            instance.deactivate(record);
+        }
+    }
+
+    /**
+     * Continue measuring frames of the resumed animation, the pause is not counted as dropped frames.
+     * Must be called from the main thread
+     */
+    static void resume(Animation animation) {
+        Record record = startedRecord(animation);
+        if (record != null) {
+            record.metrics.lastFrameNanos = 0;
+            record.lastEventMillis = AnimationUtils.currentAnimationTimeMillis();
+            record.resumed = true;
+            instance.deactivate(record);
+            instance.activate(record);
+        }
+    }
+
+    /**
+     * Returns record of the animation which started and didn't end, or null
+     */
+    private static Record startedRecord(Animation animation) {
+        if (!enabled) {
+            return null;
+        }
+        Record record;
+        synchronized (records) {
+            record = records.get(animation);
+        }
+        return record != null && record.metrics.animation == animation ? record : null;
+    }
+
+    int getActiveCount() {
+        return active.size();
+    }
+
+    private void activate(Record record) {
+        active.add(record);
+        if (!scheduled) {
+            scheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private void deactivate(Record record) {
+        active.remove(record);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        long interval = frameIntervalNanos;
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Record record = active.get(i);
+            if (record.isAbandoned(now)) {
+                active.remove(i);
+                record.drop();
+            }
+            else {
+                record.metrics.frame(frameTimeNanos, interval);
+            }
+        }
+
+        if (active.isEmpty()) {
+            scheduled = false;
+        }
+        else {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Measurement of a single animation, also its listener
+     */
+    static final class Record implements Animation.AnimationListener {
+
+        final AnimationMetrics metrics = new AnimationMetrics();
+
+        Animation.AnimationListener delegate;
+        Animus.Metrics.Sink sink;
+        // View the animation was started on through Animus, null if unknown.
+        // Held weakly, records of looping animations may stay active after the view is gone
+        WeakReference<View> view;
+        // Time of the last start or repeat event, events come only while the animation is drawn
+        long lastEventMillis;
+        // True if the animation was resumed and its repeated start event continues the measurement
+        boolean resumed;
+
+        Record(int factory, long createdNanos) {
+            metrics.factory = factory;
+            metrics.createdNanos = createdNanos;
+        }
+
+        @Override
+        public void onAnimationStart(Animation animation) {
+            lastEventMillis = AnimationUtils.currentAnimationTimeMillis();
+            if (resumed) {
+                resumed = false;
+            }
+            else {
+                AnimationMetrics metrics = this.metrics;
+                metrics.animation = animation;
+                metrics.firstFrameNanos = System.nanoTime();
+                metrics.lastFrameNanos = 0;
+                metrics.endNanos = 0;
+                metrics.frameCount = 0;
+                metrics.intervalCount = 0;
+                metrics.droppedFrames = 0;
+                instance.activate(this);
+            }
+
+            if (delegate != null) delegate.onAnimationStart(animation);
+        }
+
+        @Override
+        public void onAnimationEnd(Animation animation) {
+            if (delegate != null) delegate.onAnimationEnd(animation);
+
+            metrics.endNanos = System.nanoTime();
+            instance.deactivate(this);
+            if (sink != null) {
+                sink.onAnimationMetrics(metrics);
+            }
+            drop();
+        }
+
+        /**
+         * Returns whether the running animation will never deliver its end:
+         * it ended unnoticed, left its view, or it is long past its expected end,
+         * so nothing draws it anymore, like on a detached or hidden view.
+         * Looping animation has no expected end, it is abandoned when its view is detached
+         * and it missed its repeat. Removed views keep animating as disappearing children,
+         * detaching alone is not the end
+         */
+        boolean isAbandoned(long now) {
+            Animation animation = metrics.animation;
+            if (animation == null || animation.hasEnded()) {
+                return true;
+            }
+            View view = this.view != null ? this.view.get() : null;
+            if (this.view != null && (view == null || view.getAnimation() != animation)) {
+                return true;
+            }
+            if (animation.getRepeatCount() != Animation.INFINITE) {
+                return now > animation.getStartTime() + animation.computeDurationHint() + OVERDUE_MILLIS;
+            }
+            return (view == null || view.getWindowToken() == null)
+                    && now > lastEventMillis + animation.getStartOffset() + animation.getDuration() + OVERDUE_MILLIS;
+        }
+
+        /**
+         * Record is a value of the weak map, it must not keep its key reachable
+         */
+        void drop() {
+            metrics.animation = null;
+            view = null;
+            resumed = false;
+        }
+
+        @Override
+        public void onAnimationRepeat(Animation animation) {
+            lastEventMillis = AnimationUtils.currentAnimationTimeMillis();
+            if (delegate != null) delegate.onAnimationRepeat(animation);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.Choreographer;
+import android.view.View;
+
+import java.util.ArrayList;
+
+/**
+ * Runs spring and fling motions of view properties from a single frame callback.
+ * Starting a motion on a property which already moves changes the running one,
+ * its value and velocity are kept and nothing is allocated.
+ * Finished integrators are kept for reuse. Must be used from the main thread.
+ */
+final class PhysicsAnimator implements Choreographer.FrameCallback {
+
+    // Smallest visible change of each AnimationEngine property
+    private static final float[] THRESHOLDS = {0.5f, 0.5f, 1f / 256, 0.002f, 0.002f, 0.1f};
+
+    private static final PhysicsAnimator instance = new PhysicsAnimator();
+
+    private final ArrayList<View> views = new ArrayList<>();
+    private final ArrayList<PhysicsIntegrator> integrators = new ArrayList<>();
+    private int[] properties = new int[16];
+
+    private final ArrayList<SpringIntegrator> freeSprings = new ArrayList<>();
+    private final ArrayList<FlingIntegrator> freeFlings = new ArrayList<>();
+
+    private boolean scheduled;
+    private long lastFrameNanos;
+
+    private PhysicsAnimator() {}
+
+    static PhysicsAnimator getInstance() {
+        return instance;
+    }
+
+    /**
+     * Pull the property to the target with a spring, retargeting the running motion of the property.
+     * Invalid parameters throw before the running motion is touched
+     */
+    void spring(View view, int property, float target, float stiffness, float dampingRatio) {
+        SpringIntegrator.checkParameters(stiffness, dampingRatio);
+        int index = find(view, property);
+        SpringIntegrator spring;
+        if (index >= 0 && integrators.get(index) instanceof SpringIntegrator) {
+            spring = (SpringIntegrator) integrators.get(index);
+        }
+        else {
+            spring = freeSprings.isEmpty() ? new SpringIntegrator() : freeSprings.remove(freeSprings.size() - 1);
+            spring.setThreshold(THRESHOLDS[property]);
+            index = replace(index, view, property, spring);
+        }
+        spring.setParameters(stiffness, dampingRatio);
+        spring.setTarget(target);
+        schedule();
+    }
+
+    /**
+     * Throw the property with the velocity, continuing from the running motion of the property.
+     * Invalid parameters throw before the running motion is touched
+     */
+    void fling(View view, int property, float velocity, float friction, float min, float max) {
+        FlingIntegrator.checkParameters(friction, min, max);
+        int index = find(view, property);
+        FlingIntegrator fling;
+        if (index >= 0 && integrators.get(index) instanceof FlingIntegrator) {
+            fling = (FlingIntegrator) integrators.get(index);
+            fling.set(fling.getValue(), velocity);
+        }
+        else {
+            fling = freeFlings.isEmpty() ? new FlingIntegrator() : freeFlings.remove(freeFlings.size() - 1);
+            fling.setThreshold(THRESHOLDS[property]);
+            index = replace(index, view, property, fling);
+            fling.velocity = velocity;
+        }
+        fling.setParameters(friction, min, max);
+        schedule();
+    }
+
+    /**
+     * Put the integrator in place of the running one or add it, starting from the current state
+     */
+    private int replace(int index, View view, int property, PhysicsIntegrator integrator) {
+        if (index >= 0) {
+            PhysicsIntegrator previous = integrators.get(index);
+            integrator.set(previous.getValue(), previous.getVelocity());
+            recycle(previous);
+            integrators.set(index, integrator);
+            return index;
+        }
+
+        integrator.set(AnimationEngine.read(view, property), 0);
+        index = views.size();
+        if (index == properties.length) {
+            int[] grown = new int[index * 2];
+            System.arraycopy(properties, 0, grown, 0, index);
+            properties = grown;
+        }
+        views.add(view);
+        integrators.add(integrator);
+        properties[index] = property;
+        return index;
+    }
+
+    /**
+     * Stop all motions of the view, leaving its properties at current values
+     *
+     * @return Number of stopped motions
+     */
+    int cancel(View view) {
+        int cancelled = 0;
+        for (int i = views.size() - 1; i >= 0; i--) {
+            if (views.get(i) == view) {
+                remove(i);
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    int getActiveCount() {
+        return views.size();
+    }
+
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            lastFrameNanos = 0;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        long elapsed = lastFrameNanos == 0 ? MetricsRecorder.getFrameIntervalNanos() : frameTimeNanos - lastFrameNanos;
+        lastFrameNanos = frameTimeNanos;
+
+        for (int i = views.size() - 1; i >= 0; i--) {
+            PhysicsIntegrator integrator = integrators.get(i);
+            boolean moving = integrator.advance(elapsed);
+            AnimationEngine.apply(views.get(i), properties[i], integrator.getValue());
+            if (!moving) {
+                remove(i);
+            }
+        }
+
+        if (views.isEmpty()) {
+            scheduled = false;
+        }
+        else {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private int find(View view, int property) {
+        for (int i = 0; i < views.size(); i++) {
+            if (views.get(i) == view && properties[i] == property) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Move the last motion into the index
+     */
+    private void remove(int index) {
+        int last = views.size() - 1;
+        recycle(integrators.get(index));
+        views.set(index, views.get(last));
+        integrators.set(index, integrators.get(last));
+        properties[index] = properties[last];
+        views.remove(last);
+        integrators.remove(last);
+    }
+
+    private void recycle(PhysicsIntegrator integrator) {
+        if (integrator instanceof SpringIntegrator) {
+            freeSprings.add((SpringIntegrator) integrator);
+        }
+        else {
+            freeFlings.add((FlingIntegrator) integrator);
+        }
+    }
+}
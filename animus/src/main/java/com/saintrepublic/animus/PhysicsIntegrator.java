@@ -0,0 +1,99 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Fixed-step integrator of a single value moved by physics.
+ * Frame time is accumulated and consumed in equal steps, so the motion
+ * doesn't depend on the frame rate. Uses no Android types and runs on a plain JVM
+ */
+abstract class PhysicsIntegrator {
+
+    // Length of one integration step
+    static final long STEP_NANOS = 4000000;
+    static final float STEP_SECONDS = STEP_NANOS / 1e9f;
+
+    // Longer frames are cut, a stalled main thread must not make the motion jump
+    static final long MAX_FRAME_NANOS = 100000000;
+
+    // Settling speed per unit of value threshold, in units per second
+    private static final float VELOCITY_THRESHOLD_FACTOR = 60f;
+
+    float value;
+    float velocity;
+
+    float valueThreshold = 0.01f;
+    float velocityThreshold = 0.01f * VELOCITY_THRESHOLD_FACTOR;
+
+    private long accumulatedNanos;
+
+    /**
+     * Set current state, keeping parameters
+     */
+    void set(float value, float velocity) {
+        this.value = value;
+        this.velocity = velocity;
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * Set smallest visible change of the value, motion below it settles
+     */
+    void setThreshold(float valueThreshold) {
+        this.valueThreshold = valueThreshold;
+        velocityThreshold = valueThreshold * VELOCITY_THRESHOLD_FACTOR;
+    }
+
+    float getValue() {
+        return value;
+    }
+
+    float getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Advance the motion by the frame time
+     *
+     * @param frameNanos Time since the previous frame
+     * @return True while the value moves, false when it settled
+     */
+    boolean advance(long frameNanos) {
+        accumulatedNanos += Math.min(frameNanos, MAX_FRAME_NANOS);
+        while (accumulatedNanos >= STEP_NANOS) {
+            accumulatedNanos -= STEP_NANOS;
+            step(STEP_SECONDS);
+            if (isSettled()) {
+                settle();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Integrate one step
+     */
+    abstract void step(float seconds);
+
+    abstract boolean isSettled();
+
+    /**
+     * Put the value into its final state
+     */
+    abstract void settle();
+}
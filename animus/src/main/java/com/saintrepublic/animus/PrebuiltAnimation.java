@@ -0,0 +1,161 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Animation;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Animation built on a background thread, created by Animus.Instance.prebuild.
+ * The built animation is safely published to the thread which gets it from the handle.
+ * startOn never blocks: if the animation is not ready yet, it is built on the calling thread
+ */
+public final class PrebuiltAnimation extends FutureTask<Animation> {
+
+    // Shared background thread of prebuilding, created on first use
+    private static ExecutorService defaultExecutor;
+
+    private final Callable<Animation> builder;
+    private final Animus.Instance instance;
+    private final AnimationSpec spec;
+
+    // Animation built on the calling thread when the background one was not ready
+    private Animation fallback;
+
+    private PrebuiltAnimation(Callable<Animation> builder, Animus.Instance instance, AnimationSpec spec) {
+        super(builder);
+        this.builder = builder;
+        this.instance = instance;
+        this.spec = spec;
+    }
+
+    static PrebuiltAnimation submit(final Animus.Factory factory, final int duration, final boolean fillAfter,
+                                    Animus.Instance instance, Executor executor) {
+        PrebuiltAnimation prebuilt = new PrebuiltAnimation(new Callable<Animation>() {
+            @Override
+            public Animation call() {
+                return factory.create(duration, fillAfter);
+            }
+        }, instance, null);
+        executor.execute(prebuilt);
+        return prebuilt;
+    }
+
+    static PrebuiltAnimation submit(final AnimationSpec spec, Executor executor) {
+        PrebuiltAnimation prebuilt = new PrebuiltAnimation(new Callable<Animation>() {
+            @Override
+            public Animation call() {
+                return spec.create();
+            }
+        }, null, spec);
+        executor.execute(prebuilt);
+        return prebuilt;
+    }
+
+    static synchronized Executor getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "Animus-prebuild");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Returns the animation if it is built, without waiting
+     *
+     * @return Built animation or null
+     */
+    public Animation poll() {
+        if (fallback != null) {
+            return fallback;
+        }
+        if (!isDone() || isCancelled()) {
+            return null;
+        }
+        try {
+            return get();
+        }
+        catch (InterruptedException e) {
+            return null;
+        }
+        catch (ExecutionException e) {
+            throw new RuntimeException("Animation prebuilding failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the built animation, building it on the calling thread if the background one is not ready
+     *
+     * @return Animation ready to start
+     */
+    public Animation obtain() {
+        Animation animation = poll();
+        if (animation != null) {
+            return animation;
+        }
+
+        // Not started or still running in background, the result of the background build is dropped
+        cancel(false);
+        animation = poll();
+        if (animation == null) {
+            try {
+                animation = builder.call();
+            }
+            catch (Exception e) {
+                throw new RuntimeException("Animation building failed", e);
+            }
+            fallback = animation;
+        }
+        return animation;
+    }
+
+    /**
+     * Start the animation on the view with common parameters of the instance or the spec it was built with.
+     * Must be called from the main thread
+     *
+     * @param view View to animate
+     */
+    public void startOn(View view) {
+        Animation animation = obtain();
+        if (spec != null) {
+            if (spec.owner != null) {
+                spec.owner.track(view);
+            }
+            ViewState.of(view).start(animation, spec,
+                    MetricsRecorder.listenerFor(animation, spec.listener, spec.metricsSink), null, spec.hardwareLayer,
+                    spec.retarget, spec.coalesce, spec.commitEnd);
+        }
+        else {
+            instance.start(view, animation);
+        }
+    }
+}
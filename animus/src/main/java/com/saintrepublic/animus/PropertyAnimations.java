@@ -0,0 +1,181 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.ViewParent;
+import android.view.ViewPropertyAnimator;
+import android.view.animation.Animation;
+import android.view.animation.Interpolator;
+
+/**
+ * ViewPropertyAnimator backend of Animus.ViewProperty.
+ * Animations change real view properties and run with a hardware layer,
+ * so they are composited on RenderThread where the platform supports it.
+ * Without fillAfter the properties return to their values before the animation,
+ * as the view does at the end of an Animation, also when the next animation interrupts it.
+ */
+final class PropertyAnimations {
+
+    private PropertyAnimations() {}
+
+    /**
+     * Resolve value given like Animation.RELATIVE_TO_SELF or Animation.RELATIVE_TO_PARENT into pixels
+     */
+    static float resolve(View view, int relation, float value, boolean horizontal) {
+        switch (relation) {
+            case Animation.RELATIVE_TO_SELF: {
+                return value * (horizontal ? view.getWidth() : view.getHeight());
+            }
+            case Animation.RELATIVE_TO_PARENT: {
+                ViewParent parent = view.getParent();
+                if (!(parent instanceof View)) {
+                    return 0;
+                }
+                return value * (horizontal ? ((View) parent).getWidth() : ((View) parent).getHeight());
+            }
+            default: { return value;}
+        }
+    }
+
+    static ViewPropertyAnimator translate(final View view, float fromX, float toX, float fromY, float toY,
+                                          int duration, boolean fillAfter, Interpolator interpolator) {
+        settle(view);
+        final float restX = view.getTranslationX();
+        final float restY = view.getTranslationY();
+        view.setTranslationX(fromX);
+        view.setTranslationY(fromY);
+
+        ViewPropertyAnimator animator = prepare(view, duration, interpolator)
+                .translationX(toX)
+                .translationY(toY);
+
+        if (!fillAfter) {
+            restoreAtEnd(view, animator, new Runnable() {
+                @Override
+                public void run() {
+                    view.setTranslationX(restX);
+                    view.setTranslationY(restY);
+                }
+            });
+        }
+        return animator;
+    }
+
+    static ViewPropertyAnimator alpha(final View view, float from, float to,
+                                      int duration, boolean fillAfter, Interpolator interpolator) {
+        settle(view);
+        final float rest = view.getAlpha();
+        view.setAlpha(from);
+
+        ViewPropertyAnimator animator = prepare(view, duration, interpolator).alpha(to);
+
+        if (!fillAfter) {
+            restoreAtEnd(view, animator, new Runnable() {
+                @Override
+                public void run() {
+                    view.setAlpha(rest);
+                }
+            });
+        }
+        return animator;
+    }
+
+    static ViewPropertyAnimator scale(final View view, float fx, float tx, float fy, float ty,
+                                      float pivotX, float pivotY,
+                                      int duration, boolean fillAfter, Interpolator interpolator) {
+        settle(view);
+        final float restX = view.getScaleX();
+        final float restY = view.getScaleY();
+        view.setPivotX(pivotX);
+        view.setPivotY(pivotY);
+        view.setScaleX(fx);
+        view.setScaleY(fy);
+
+        ViewPropertyAnimator animator = prepare(view, duration, interpolator)
+                .scaleX(tx)
+                .scaleY(ty);
+
+        if (!fillAfter) {
+            restoreAtEnd(view, animator, new Runnable() {
+                @Override
+                public void run() {
+                    view.setScaleX(restX);
+                    view.setScaleY(restY);
+                }
+            });
+        }
+        return animator;
+    }
+
+    static ViewPropertyAnimator rotate(final View view, float fd, float td, float pivotX, float pivotY,
+                                       int duration, boolean fillAfter, Interpolator interpolator) {
+        settle(view);
+        final float rest = view.getRotation();
+        view.setPivotX(pivotX);
+        view.setPivotY(pivotY);
+        view.setRotation(fd);
+
+        ViewPropertyAnimator animator = prepare(view, duration, interpolator).rotation(td);
+
+        if (!fillAfter) {
+            restoreAtEnd(view, animator, new Runnable() {
+                @Override
+                public void run() {
+                    view.setRotation(rest);
+                }
+            });
+        }
+        return animator;
+    }
+
+    /**
+     * Stop the running animation of the view. Cancelling skips its end action,
+     * so properties of an animation without fillAfter are put back here
+     */
+    private static void settle(View view) {
+        view.animate().cancel();
+        ViewState state = ViewState.peek(view);
+        if (state != null && state.getPropertyRestore() != null) {
+            Runnable restore = state.getPropertyRestore();
+            state.setPropertyRestore(null);
+            restore.run();
+        }
+    }
+
+    private static void restoreAtEnd(View view, ViewPropertyAnimator animator, final Runnable restore) {
+        final ViewState state = ViewState.of(view);
+        state.setPropertyRestore(restore);
+        animator.withEndAction(new Runnable() {
+            @Override
+            public void run() {
+                if (state.getPropertyRestore() == restore) {
+                    state.setPropertyRestore(null);
+                    restore.run();
+                }
+            }
+        });
+    }
+
+    private static ViewPropertyAnimator prepare(View view, int duration, Interpolator interpolator) {
+        return view.animate()
+                .setDuration(duration)
+                .setStartDelay(0)
+                .setInterpolator(interpolator)
+                .withLayer();
+    }
+}
@@ -0,0 +1,247 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.graphics.Matrix;
+import android.view.View;
+import android.view.ViewParent;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Transformation;
+
+/**
+ * Replacement of an animation started while another one still transforms the view.
+ * It moves from the transformation the view has now to the end of the new animation,
+ * so the view doesn't jump to the start values of the new one.
+ * Transformations are decomposed into translation, scale and rotation around the pivot of the new animation,
+ * which are interpolated separately, so the pivot moves straight while the view turns around it
+ */
+final class RetargetAnimation extends Animation {
+
+    // Indices of decomposed transformation values
+    private static final int TX = 0, TY = 1, SX = 2, SY = 3, DEGREES = 4, ALPHA = 5, COUNT = 6;
+
+    // Distances smaller than this are treated as no movement
+    private static final float EPSILON = 0.001f;
+
+    // Number of scratch values required by create
+    static final int SCRATCH_SIZE = COUNT;
+
+    private final float[] from = new float[COUNT];
+    private final float[] to = new float[COUNT];
+    private final float[] values = new float[9];
+
+    // Point the view scales and rotates around, resolved from the target animation
+    private float pivotX;
+    private float pivotY;
+
+    private RetargetAnimation() {
+        values[Matrix.MPERSP_2] = 1;
+    }
+
+    /**
+     * Create animation from the current transformation of the running animation to the end of the target one.
+     * The running animation is cancelled, its listeners receive the end
+     *
+     * @param view Animated view
+     * @param running Animation transforming the view now
+     * @param target Animation which should replace it
+     * @param transformation Scratch transformation
+     * @param start Scratch values, at least SCRATCH_SIZE
+     * @return Replacement animation or null if the target can be started as is
+     */
+    static RetargetAnimation create(View view, Animation running, Animation target,
+                                    Transformation transformation, float[] start) {
+        if (!initialize(view, target)) {
+            return null;
+        }
+
+        RetargetAnimation animation = new RetargetAnimation();
+        float[] values = animation.values;
+
+        // Sample the target at its start and end without starting it on the view
+        target.setAnimationListener(null);
+        AnimationPool.hold(target, true);
+        long offset = target.getStartOffset();
+        target.setStartTime(0);
+        transformation.clear();
+        target.getTransformation(offset + target.getDuration(), transformation);
+        transformation.getMatrix().getValues(values);
+        if (!animation.resolvePivot(values)) {
+            transformation.clear();
+            target.getTransformation(offset, transformation);
+            transformation.getMatrix().getValues(values);
+            if (!animation.resolvePivot(values)) {
+                animation.pivotX = view.getPivotX();
+                animation.pivotY = view.getPivotY();
+            }
+        }
+        transformation.clear();
+        target.getTransformation(offset, transformation);
+        animation.decompose(transformation, start);
+        transformation.clear();
+        target.getTransformation(offset + target.getDuration(), transformation);
+        animation.decompose(transformation, animation.to);
+        target.reset();
+        AnimationPool.hold(target, false);
+
+        // Next draw would deliver events of the running animation up to now, then it ends for its listeners
+        transformation.clear();
+        running.getTransformation(AnimationUtils.currentAnimationTimeMillis(), transformation);
+        animation.decompose(transformation, animation.from);
+        running.cancel();
+
+        // Remaining part of the target distance sets the remaining part of its duration
+        float remaining = 0;
+        for (int i = 0; i < COUNT; i++) {
+            float full = Math.abs(animation.to[i] - start[i]);
+            if (full > EPSILON) {
+                remaining = Math.max(remaining, Math.abs(animation.to[i] - animation.from[i]) / full);
+            }
+        }
+
+        animation.setDuration((long) (target.getDuration() * Math.min(remaining, 1f)));
+        animation.setInterpolator(target.getInterpolator());
+        animation.setFillAfter(target.getFillAfter());
+        animation.setFillBefore(target.getFillBefore());
+        animation.setFillEnabled(target.isFillEnabled());
+        return animation;
+    }
+
+    /**
+     * Returns whether the animation leaves the view untransformed at its end,
+     * like Alpha.show or Move.From animations
+     *
+     * @param view View the animation is for
+     * @param animation Animation which is not started, its listener is removed
+     * @param transformation Scratch transformation
+     */
+    static boolean endsAtRest(View view, Animation animation, Transformation transformation) {
+        if (!initialize(view, animation)) {
+            return false;
+        }
+
+        transformation.clear();
+        animation.setAnimationListener(null);
+        AnimationPool.hold(animation, true);
+        animation.setStartTime(0);
+        animation.getTransformation(animation.getStartOffset() + animation.getDuration(), transformation);
+        animation.reset();
+        AnimationPool.hold(animation, false);
+        return transformation.getMatrix().isIdentity() && transformation.getAlpha() == 1f;
+    }
+
+    /**
+     * Initialize the animation with sizes of the view
+     *
+     * @return False if the view is not laid out yet
+     */
+    private static boolean initialize(View view, Animation animation) {
+        int width = view.getWidth();
+        int height = view.getHeight();
+        if (width == 0 && height == 0) {
+            return false;
+        }
+        int parentWidth = width;
+        int parentHeight = height;
+        ViewParent parent = view.getParent();
+        if (parent instanceof View) {
+            parentWidth = ((View) parent).getWidth();
+            parentHeight = ((View) parent).getHeight();
+        }
+        animation.initialize(width, height, parentWidth, parentHeight);
+        return true;
+    }
+
+    /**
+     * Take the point the matrix keeps in place as the pivot,
+     * which is the pivot of a scale or rotation and of their combination
+     *
+     * @return False if the matrix keeps no single point, like a translation
+     */
+    private boolean resolvePivot(float[] matrix) {
+        float a = matrix[Matrix.MSCALE_X];
+        float b = matrix[Matrix.MSKEW_X];
+        float c = matrix[Matrix.MSKEW_Y];
+        float d = matrix[Matrix.MSCALE_Y];
+
+        // Solve (I - A) * pivot = translation
+        float determinant = (1 - a) * (1 - d) - b * c;
+        if (Math.abs(determinant) < EPSILON) {
+            return false;
+        }
+        float tx = matrix[Matrix.MTRANS_X];
+        float ty = matrix[Matrix.MTRANS_Y];
+        pivotX = ((1 - d) * tx + b * ty) / determinant;
+        pivotY = (c * tx + (1 - a) * ty) / determinant;
+        return true;
+    }
+
+    /**
+     * Split transformation into translation, scale and rotation around the pivot and alpha, skew is not supported
+     */
+    private void decompose(Transformation transformation, float[] out) {
+        float[] matrix = values;
+        transformation.getMatrix().getValues(matrix);
+        float a = matrix[Matrix.MSCALE_X];
+        float b = matrix[Matrix.MSKEW_X];
+        float c = matrix[Matrix.MSKEW_Y];
+        float d = matrix[Matrix.MSCALE_Y];
+
+        // Translation of the pivot, the rest turns and scales around it
+        float sx = (float) Math.hypot(a, c);
+        out[TX] = matrix[Matrix.MTRANS_X] - pivotX + a * pivotX + b * pivotY;
+        out[TY] = matrix[Matrix.MTRANS_Y] - pivotY + c * pivotX + d * pivotY;
+        out[SX] = sx;
+        out[SY] = sx == 0 ? (float) Math.hypot(b, d) : (a * d - b * c) / sx;
+        out[DEGREES] = (float) Math.toDegrees(Math.atan2(c, a));
+        out[ALPHA] = transformation.getAlpha();
+        matrix[Matrix.MPERSP_0] = 0;
+        matrix[Matrix.MPERSP_1] = 0;
+        matrix[Matrix.MPERSP_2] = 1;
+    }
+
+    @Override
+    protected void applyTransformation(float interpolatedTime, Transformation t) {
+        float[] from = this.from;
+        float[] to = this.to;
+
+        // Rotate the short way
+        float degrees = to[DEGREES] - from[DEGREES];
+        if (degrees > 180) {
+            degrees -= 360;
+        }
+        else if (degrees < -180) {
+            degrees += 360;
+        }
+
+        t.setAlpha(from[ALPHA] + (to[ALPHA] - from[ALPHA]) * interpolatedTime);
+        FusedTransformAnimation.setTransform(t.getMatrix(), values,
+                from[SX] + (to[SX] - from[SX]) * interpolatedTime,
+                from[SY] + (to[SY] - from[SY]) * interpolatedTime,
+                pivotX, pivotY,
+                from[DEGREES] + degrees * interpolatedTime,
+                pivotX, pivotY,
+                from[TX] + (to[TX] - from[TX]) * interpolatedTime,
+                from[TY] + (to[TY] - from[TY]) * interpolatedTime);
+    }
+
+    @Override
+    public boolean willChangeBounds() {
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Damped spring of unit mass pulling the value to the target.
+ * The target and parameters can be changed at any time, the value keeps its velocity
+ */
+final class SpringIntegrator extends PhysicsIntegrator {
+
+    float target;
+    private float stiffness;
+    private float damping;
+
+    /**
+     * Set spring parameters
+     *
+     * @param stiffness Spring stiffness, positive
+     * @param dampingRatio 1 for critical damping, less bounces
+     */
+    void setParameters(float stiffness, float dampingRatio) {
+        checkParameters(stiffness, dampingRatio);
+        this.stiffness = stiffness;
+        damping = 2 * dampingRatio * (float) Math.sqrt(stiffness);
+    }
+
+    /**
+     * Throw if spring parameters are invalid, before anything is changed
+     */
+    static void checkParameters(float stiffness, float dampingRatio) {
+        if (stiffness <= 0) {
+            throw new IllegalArgumentException("Stiffness must be positive: " + stiffness);
+        }
+        if (dampingRatio < 0) {
+            throw new IllegalArgumentException("Damping ratio must not be negative: " + dampingRatio);
+        }
+    }
+
+    void setTarget(float target) {
+        this.target = target;
+    }
+
+    @Override
+    void step(float seconds) {
+        // Semi-implicit Euler keeps the spring stable with a fixed step
+        float acceleration = -stiffness * (value - target) - damping * velocity;
+        velocity += acceleration * seconds;
+        value += velocity * seconds;
+    }
+
+    @Override
+    boolean isSettled() {
+        return Math.abs(velocity) < velocityThreshold && Math.abs(value - target) < valueThreshold;
+    }
+
+    @Override
+    void settle() {
+        value = target;
+        velocity = 0;
+    }
+}
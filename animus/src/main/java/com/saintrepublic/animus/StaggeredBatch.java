@@ -0,0 +1,128 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.animation.Animation;
+
+import java.util.Collection;
+
+/**
+ * Group of views animated with one factory and a delay between items.
+ * All items are started from a single frame callback through Animus.Instance.start,
+ * so they get the common listeners, metrics, scheduling and retargeting of the instance.
+ * The batch is the own listener of every item and reports completion once for the whole group.
+ * Coalesced, dropped and replaced requests deliver their end to it through ViewState and the scheduler,
+ * items of views which can't draw are counted by one check after the expected end of the batch.
+ */
+final class StaggeredBatch implements Choreographer.FrameCallback, Animation.AnimationListener {
+
+    // Time after the expected end of the batch before items of detached or hidden views are counted
+    private static final long OVERDUE_MILLIS = 1000;
+
+    private final Animus.Instance instance;
+    private final View[] views;
+    private final Animus.Factory factory;
+    private final int duration;
+    private final boolean fillAfter;
+    private final long staggerDelay;
+    private final Runnable onComplete;
+
+    private boolean started;
+    private int running;
+
+    StaggeredBatch(Animus.Instance instance, Collection<? extends View> views, Animus.Factory factory, int duration,
+                   boolean fillAfter, long staggerDelay, Runnable onComplete) {
+        this.instance = instance;
+        this.views = views.toArray(new View[views.size()]);
+        this.factory = factory;
+        this.duration = duration;
+        this.fillAfter = fillAfter;
+        this.staggerDelay = staggerDelay;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Schedule the batch to the next frame
+     */
+    void post() {
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Start all items on the first frame, later frames come only after the expected end of the batch
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!started) {
+            started = true;
+            running = views.length;
+            if (running == 0) {
+                complete();
+                return;
+            }
+            for (int i = 0; i < views.length; i++) {
+                Animation animation = factory.create(duration, fillAfter);
+                animation.setStartOffset(i * staggerDelay);
+                instance.start(views[i], animation, this);
+            }
+            if (running > 0) {
+                Choreographer.getInstance().postFrameCallbackDelayed(this,
+                        (views.length - 1) * staggerDelay + duration + OVERDUE_MILLIS);
+            }
+            return;
+        }
+
+        // Animations of views which are not drawn never end, they stop reporting to the batch
+        for (int i = 0; i < views.length && running > 0; i++) {
+            View view = views[i];
+            ViewState state = ViewState.peek(view);
+            if (state != null && state.getExtra() == this && !view.isShown()) {
+                Animation animation = state.getAnimation();
+                if (animation != null && !animation.hasEnded()) {
+                    state.clearExtra();
+                    onAnimationEnd(animation);
+                }
+            }
+        }
+        // Rest waits in the scheduler queue or was restarted longer
+        if (running > 0) {
+            Choreographer.getInstance().postFrameCallbackDelayed(this, OVERDUE_MILLIS);
+        }
+    }
+
+    @Override
+    public void onAnimationStart(Animation animation) {}
+
+    @Override
+    public void onAnimationEnd(Animation animation) {
+        if (--running == 0) {
+            complete();
+        }
+    }
+
+    @Override
+    public void onAnimationRepeat(Animation animation) {}
+
+    private void complete() {
+        Choreographer.getInstance().removeFrameCallback(this);
+        if (onComplete != null) {
+            onComplete.run();
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.graphics.Matrix;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
+import android.view.animation.Transformation;
+import android.view.animation.TranslateAnimation;
+
+import java.util.Arrays;
+
+/**
+ * Animus state of a single view, kept in the view tag.
+ * Becomes the listener of animations started through Animus.start,
+ * forwards their events to the common listener and manages the view around them.
+ */
+final class ViewState implements Animation.AnimationListener, Runnable {
+
+    private static final int NO_VISIBILITY = -1;
+
+    private final View view;
+
+    // Animation started last through Animus
+    private Animation animation;
+    // AnimationSpec or AnimationComposite the animation was created from, null if it came from a factory
+    private Object source;
+    // Listener the events of the animation are forwarded to
+    private Animation.AnimationListener delegate;
+    // Listener of this animation only, called after the delegate
+    private Animation.AnimationListener extra;
+
+    // Animation of the last request, differs from the animation if retargeting replaced it, and its timing
+    private Animation request;
+    private long requestDuration;
+    private boolean requestFillAfter;
+    private Interpolator requestInterpolator;
+
+    // Visibility set to the view when the animation ends, NO_VISIBILITY to keep it
+    private int endVisibility = NO_VISIBILITY;
+
+    // True to write the end of the animation with fillAfter to view properties
+    private boolean commitEnd;
+    // True while the end of the animation waits to be committed after the frame
+    private boolean commitPending;
+
+    // Animation checked by endsAtRest last and the result
+    private Animation restChecked;
+    private boolean restResult;
+
+    // True while the view is switched to hardware layer by Animus
+    private boolean layerApplied;
+    // Layer type of the view before Animus switched it
+    private int previousLayerType;
+    // True while the animation is paused and its layer waits to be applied again
+    private boolean layerPaused;
+
+    // Slot of the AnimationEngine track of each engine property, -1 if the property has no track
+    private int[] engineSlots;
+
+    // Puts view properties back after the running ViewProperty animation without fillAfter, null if none
+    private Runnable propertyRestore;
+
+    // Scratch objects of retargeting and committing, created on first use
+    private Transformation transformation;
+    private float[] values;
+
+    private ViewState(View view) {
+        this.view = view;
+    }
+
+    /**
+     * Returns state of the view, creating it on first use
+     */
+    static ViewState of(View view) {
+        ViewState state = (ViewState) view.getTag(R.id.animus_view_state);
+        if (state == null) {
+            state = new ViewState(view);
+            view.setTag(R.id.animus_view_state, state);
+        }
+        return state;
+    }
+
+    /**
+     * Returns state of the view or null if Animus never animated it
+     */
+    static ViewState peek(View view) {
+        return (ViewState) view.getTag(R.id.animus_view_state);
+    }
+
+    View getView() {
+        return view;
+    }
+
+    Animation getAnimation() {
+        return animation;
+    }
+
+    int getEngineSlot(int property) {
+        return engineSlots != null ? engineSlots[property] : -1;
+    }
+
+    void setEngineSlot(int property, int slot) {
+        if (engineSlots == null) {
+            engineSlots = new int[AnimationEngine.PROPERTY_COUNT];
+            Arrays.fill(engineSlots, -1);
+        }
+        engineSlots[property] = slot;
+    }
+
+    Runnable getPropertyRestore() {
+        return propertyRestore;
+    }
+
+    void setPropertyRestore(Runnable restore) {
+        propertyRestore = restore;
+    }
+
+    /**
+     * Returns listener of the last started animation only
+     */
+    Animation.AnimationListener getExtra() {
+        return extra;
+    }
+
+    /**
+     * Stop forwarding events of the last started animation to its own listener
+     */
+    void clearExtra() {
+        extra = null;
+    }
+
+    /**
+     * Start the animation on the view
+     *
+     * @param animation Animation to start
+     * @param listener Listener to forward animation events to
+     * @param hardwareLayer True to render the view into hardware layer while the animation runs
+     */
+    void start(Animation animation, Animation.AnimationListener listener, boolean hardwareLayer) {
+        start(animation, null, listener, null, hardwareLayer, false, false, false);
+    }
+
+    /**
+     * Start the animation created from the spec on the view
+     *
+     * @param animation Animation to start
+     * @param source AnimationSpec or AnimationComposite the animation was created from, can be null
+     * @param listener Listener to forward animation events to
+     * @param extra Listener of this animation only, called after the listener, can be null
+     * @param hardwareLayer True to render the view into hardware layer while the animation runs
+     * @param retarget True to continue from the transformation of the animation which runs now
+     * @param coalesce True to skip requests identical to the active animation or already satisfied,
+     *                 other requests continue from the current transformation
+     * @param commitEnd True to write the end of the animation with fillAfter to view properties
+     * @return False if the request was coalesced and nothing was started
+     */
+    boolean start(Animation animation, Object source, Animation.AnimationListener listener,
+                  Animation.AnimationListener extra, boolean hardwareLayer, boolean retarget, boolean coalesce,
+                  boolean commitEnd) {
+        int factory = AnimationFactory.factoryOf(animation);
+        int endVisibility = factory == AnimationFactory.ALPHA_HIDE_GONE ? View.GONE
+                : (factory == AnimationFactory.ALPHA_HIDE_INVISIBLE ? View.INVISIBLE : NO_VISIBILITY);
+        if (factory == AnimationFactory.ALPHA_SHOW_VISIBLE) {
+            view.setVisibility(View.VISIBLE);
+        }
+
+        if (coalesce && isSameRequest(animation, source) && (isActive() || endsAtRest(animation))) {
+            // Own listener of the request still gets its end, nothing else will deliver it
+            if (extra != null) {
+                extra.onAnimationEnd(animation);
+            }
+            if (animation != this.animation) {
+                AnimationPool.release(animation);
+            }
+            return false;
+        }
+
+        // Timing is copied, the requested animation may return to the pool when it is replaced
+        Animation request = animation;
+        long requestDuration = animation.getDuration();
+        boolean requestFillAfter = animation.getFillAfter();
+        Interpolator requestInterpolator = animation.getInterpolator();
+
+        if ((retarget || coalesce) && isTransforming()) {
+            Animation running = this.animation;
+            // Interrupted animation ends for its listeners, but the view is handed over to the replacement
+            this.animation = null;
+            RetargetAnimation replacement = RetargetAnimation.create(view, running, animation, transformation(), values());
+            if (replacement != null) {
+                AnimationPool.release(animation);
+                AnimationPool.release(running);
+                animation = replacement;
+            }
+            else {
+                this.animation = running;
+            }
+        }
+
+        Animation previous = this.animation;
+        if (previous != null && previous != animation) {
+            MetricsRecorder.replaced(previous);
+            // Replaced animation is not drawn anymore and never ends, its own listener gets the end here
+            if (this.extra != null && !previous.hasEnded()) {
+                this.extra.onAnimationEnd(previous);
+            }
+        }
+
+        this.animation = animation;
+        this.source = source;
+        this.request = request;
+        this.requestDuration = requestDuration;
+        this.requestFillAfter = requestFillAfter;
+        this.requestInterpolator = requestInterpolator;
+        this.delegate = listener;
+        this.extra = extra;
+        this.commitEnd = commitEnd;
+        this.endVisibility = endVisibility;
+        commitPending = false;
+
+        layerPaused = false;
+        if (hardwareLayer && !layerApplied && needsLayer(animation)) {
+            applyLayer();
+        }
+
+        animation.setAnimationListener(this);
+        MetricsRecorder.startedOn(animation, view);
+        view.startAnimation(animation);
+        return true;
+    }
+
+    private void applyLayer() {
+        int layerType = view.getLayerType();
+        if (layerType != View.LAYER_TYPE_HARDWARE) {
+            previousLayerType = layerType;
+            view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+            layerApplied = true;
+        }
+    }
+
+    /**
+     * Detach the running animation from the view without end events.
+     * Hardware layer applied for it is restored and its metrics are suspended until resume
+     *
+     * @param animation Animation running on the view
+     */
+    void pause(Animation animation) {
+        layerPaused = false;
+        if (animation == this.animation && layerApplied) {
+            layerApplied = false;
+            layerPaused = true;
+            view.setLayerType(previousLayerType, null);
+        }
+        MetricsRecorder.suspend(animation);
+        view.setAnimation(null);
+    }
+
+    /**
+     * Attach the paused animation again with its layer and metrics,
+     * unless another animation started on the view meanwhile
+     *
+     * @param animation Animation detached by pause, its start time already moved
+     * @return True if the animation was attached
+     */
+    boolean resume(Animation animation) {
+        if (view.getAnimation() != null) {
+            MetricsRecorder.replaced(animation);
+            return false;
+        }
+
+        if (layerPaused && animation == this.animation && !layerApplied) {
+            applyLayer();
+        }
+        layerPaused = false;
+        MetricsRecorder.resume(animation);
+        view.setAnimation(animation);
+        view.invalidate();
+        return true;
+    }
+
+    /**
+     * Returns whether the animation describes the same request as the last one,
+     * a retargeted request is compared by the animation it was retargeted to
+     */
+    private boolean isSameRequest(Animation animation, Object source) {
+        if (this.animation == null) {
+            return false;
+        }
+        if (source != null || this.source != null) {
+            return source == this.source;
+        }
+        if (animation == this.animation) {
+            return true;
+        }
+        Animation last = request;
+        if (!(animation instanceof AnimationPool.Pooled) || !(last instanceof AnimationPool.Pooled)) {
+            return false;
+        }
+        return ((AnimationPool.Pooled) animation).getKey().sameKey(((AnimationPool.Pooled) last).getKey())
+                && animation.getDuration() == requestDuration
+                && animation.getFillAfter() == requestFillAfter
+                && animation.getInterpolator() == requestInterpolator;
+    }
+
+    /**
+     * Returns whether the last animation is waiting for its first frame, running or filled after its end
+     */
+    private boolean isActive() {
+        Animation animation = this.animation;
+        return animation != null && view.getAnimation() == animation
+                && (!animation.hasEnded() || animation.getFillAfter());
+    }
+
+    /**
+     * Returns whether the request for the same end state as the finished last animation
+     * leaves the view untransformed, so running it again only flickers
+     */
+    private boolean endsAtRest(Animation animation) {
+        Animation last = this.animation;
+        if (!last.hasEnded()) {
+            return false;
+        }
+        if (restChecked != last) {
+            restChecked = last;
+            restResult = RetargetAnimation.endsAtRest(view, animation, transformation());
+        }
+        return restResult;
+    }
+
+    /**
+     * Returns the last animation if it is still active on the view
+     */
+    Animation getActiveAnimation() {
+        return isActive() ? animation : null;
+    }
+
+    /**
+     * Move the start of the last animation to the past, so the next draw shows its end
+     * and delivers its events. Used for collapsed animations nobody would see
+     */
+    void jumpToEnd() {
+        Animation animation = this.animation;
+        if (animation != null && view.getAnimation() == animation && !animation.hasStarted()) {
+            animation.setStartTime(AnimationUtils.currentAnimationTimeMillis() - animation.computeDurationHint());
+            view.invalidate();
+        }
+    }
+
+    /**
+     * Returns whether Animus animation transforms the view now, running or filled after its end
+     */
+    private boolean isTransforming() {
+        Animation animation = this.animation;
+        if (animation == null || view.getAnimation() != animation || !animation.hasStarted()) {
+            return false;
+        }
+        return !animation.hasEnded() || animation.getFillAfter();
+    }
+
+    /**
+     * Returns the finished animation of the source left on the view, or null if it can't be restarted.
+     * Pooled animations are released on end and may already belong to another view,
+     * retargeting replacements depend on the interrupted animation
+     */
+    Animation reusableAnimation(Object source) {
+        Animation animation = this.animation;
+        if (source == this.source && animation != null && animation.hasEnded()
+                && !AnimationPool.isPoolable(animation) && !(animation instanceof RetargetAnimation)) {
+            return animation;
+        }
+        return null;
+    }
+
+    private Transformation transformation() {
+        if (transformation == null) {
+            transformation = new Transformation();
+        }
+        return transformation;
+    }
+
+    private float[] values() {
+        if (values == null) {
+            values = new float[Math.max(9, RetargetAnimation.SCRATCH_SIZE)];
+        }
+        return values;
+    }
+
+    /**
+     * Translation does not redraw the view content, the layer would not pay off
+     */
+    private static boolean needsLayer(Animation animation) {
+        return !(animation instanceof TranslateAnimation);
+    }
+
+    @Override
+    public void onAnimationStart(Animation animation) {
+        if (delegate != null) delegate.onAnimationStart(animation);
+        if (extra != null) extra.onAnimationStart(animation);
+    }
+
+    @Override
+    public void onAnimationEnd(Animation animation) {
+        if (delegate != null) delegate.onAnimationEnd(animation);
+        if (extra != null) extra.onAnimationEnd(animation);
+
+        // End is dispatched while the view is drawn, layer is restored and the end is committed after the frame
+        if (animation == this.animation) {
+            commitPending = commitEnd && animation.getFillAfter() && endVisibility == NO_VISIBILITY;
+            if (layerApplied || commitPending || endVisibility != NO_VISIBILITY) {
+                view.post(this);
+            }
+        }
+    }
+
+    @Override
+    public void onAnimationRepeat(Animation animation) {
+        if (delegate != null) delegate.onAnimationRepeat(animation);
+        if (extra != null) extra.onAnimationRepeat(animation);
+    }
+
+    /**
+     * Write the end transformation of the finished animation to view properties and clear the animation.
+     * Animation matrix is applied over the matrix of view properties,
+     * their product is split back into translation, rotation and scale around the view pivot
+     */
+    private void commit() {
+        Animation animation = this.animation;
+        if (animation == null || view.getAnimation() != animation || !animation.hasEnded()) {
+            return;
+        }
+
+        Transformation transformation = transformation();
+        transformation.clear();
+        animation.getTransformation(AnimationUtils.currentAnimationTimeMillis(), transformation);
+        Matrix matrix = transformation.getMatrix();
+        matrix.preConcat(view.getMatrix());
+        float[] values = values();
+        matrix.getValues(values);
+
+        float a = values[Matrix.MSCALE_X];
+        float b = values[Matrix.MSKEW_X];
+        float c = values[Matrix.MSKEW_Y];
+        float d = values[Matrix.MSCALE_Y];
+        float pivotX = view.getPivotX();
+        float pivotY = view.getPivotY();
+        float scaleX = (float) Math.hypot(a, c);
+
+        view.clearAnimation();
+        view.setTranslationX(values[Matrix.MTRANS_X] - pivotX + a * pivotX + b * pivotY);
+        view.setTranslationY(values[Matrix.MTRANS_Y] - pivotY + c * pivotX + d * pivotY);
+        view.setRotation((float) Math.toDegrees(Math.atan2(c, a)));
+        view.setScaleX(scaleX);
+        view.setScaleY(scaleX == 0 ? (float) Math.hypot(b, d) : (a * d - b * c) / scaleX);
+        view.setAlpha(view.getAlpha() * transformation.getAlpha());
+
+        // Animation left the view, pooled one can be reused
+        if (AnimationPool.release(animation)) {
+            this.animation = null;
+            source = null;
+            request = null;
+            requestInterpolator = null;
+        }
+    }
+
+    /**
+     * Clear the finished hiding animation and hide the view,
+     * its alpha is not committed so the view appears again when it gets visible
+     */
+    private void hide() {
+        Animation animation = this.animation;
+        int visibility = endVisibility;
+        endVisibility = NO_VISIBILITY;
+        if (animation == null || !animation.hasEnded()) {
+            return;
+        }
+
+        if (view.getAnimation() == animation) {
+            view.clearAnimation();
+        }
+        view.setVisibility(visibility);
+        if (AnimationPool.release(animation)) {
+            this.animation = null;
+            source = null;
+            request = null;
+            requestInterpolator = null;
+        }
+    }
+
+    /**
+     * Commit the end of the animation if it is pending and
+     * restore the layer type of the view if no Animus animation runs on it anymore
+     */
+    @Override
+    public void run() {
+        if (endVisibility != NO_VISIBILITY) {
+            hide();
+        }
+        if (commitPending) {
+            commitPending = false;
+            commit();
+        }
+        if (layerApplied && (animation == null || animation.hasEnded())) {
+            layerApplied = false;
+            view.setLayerType(previousLayerType, null);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Animation;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Common listener registered weakly. Animus configuration and animations reference only this wrapper,
+ * so a listener owned by an Activity doesn't keep the Activity reachable.
+ * Events are dropped after the listener is collected
+ */
+final class WeakAnimationListener implements Animation.AnimationListener {
+
+    private final WeakReference<Animation.AnimationListener> listener;
+
+    WeakAnimationListener(Animation.AnimationListener listener) {
+        this.listener = new WeakReference<>(listener);
+    }
+
+    /**
+     * Returns the listener behind the wrapper or the listener itself if it is not weak
+     */
+    static Animation.AnimationListener unwrap(Animation.AnimationListener listener) {
+        return listener instanceof WeakAnimationListener ? ((WeakAnimationListener) listener).listener.get() : listener;
+    }
+
+    @Override
+    public void onAnimationStart(Animation animation) {
+        Animation.AnimationListener listener = this.listener.get();
+        if (listener != null) listener.onAnimationStart(animation);
+    }
+
+    @Override
+    public void onAnimationEnd(Animation animation) {
+        Animation.AnimationListener listener = this.listener.get();
+        if (listener != null) listener.onAnimationEnd(animation);
+    }
+
+    @Override
+    public void onAnimationRepeat(Animation animation) {
+        Animation.AnimationListener listener = this.listener.get();
+        if (listener != null) listener.onAnimationRepeat(animation);
+    }
+}
@@ -0,0 +1,90 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Interpolator;
+import android.view.animation.OvershootInterpolator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tracks replaced on the same view and use counts of custom interpolators
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AnimationEngineTest {
+
+    private static final long DURATION = 100;
+    private static final long FRAME_NANOS = 16666667;
+
+    private final AnimationEngine engine = AnimationEngine.getInstance();
+    private View view;
+
+    @Before
+    public void setUp() {
+        view = new View(RuntimeEnvironment.application);
+    }
+
+    @After
+    public void tearDown() {
+        engine.cancelAll();
+    }
+
+    @Test
+    public void reanimatedPropertyKeepsSameInterpolator() {
+        Interpolator overshoot = new OvershootInterpolator(2f);
+        engine.animate(view, AnimationEngine.ALPHA, 0, 1, DURATION, 0, engine.indexOf(overshoot), null);
+        engine.animate(view, AnimationEngine.ALPHA, 1, 0, DURATION, 0, engine.indexOf(overshoot), null);
+        assertEquals(1, engine.getActiveCount());
+
+        engine.doFrame(0);
+        engine.doFrame(FRAME_NANOS);
+        assertEquals(overshoot.getInterpolation((float) 16 / DURATION), 1 - view.getAlpha(), 0.0001f);
+
+        engine.doFrame(DURATION * 1000000);
+        assertEquals(0, engine.getActiveCount());
+        assertEquals(0, view.getAlpha(), 0);
+    }
+
+    @Test
+    public void sharedInterpolatorIsFreedAfterLastTrack() {
+        Interpolator overshoot = new OvershootInterpolator(2f);
+        int index = engine.indexOf(overshoot);
+        engine.animate(view, AnimationEngine.SCALE_X, 0, 1, DURATION, 0, index, null);
+        engine.animate(view, AnimationEngine.SCALE_Y, 0, 1, DURATION, 0, index, null);
+        engine.animate(view, AnimationEngine.SCALE_X, 1, 2, DURATION, 0, engine.indexOf(overshoot), null);
+
+        // Still used by the scale y track
+        engine.cancel(new View(RuntimeEnvironment.application));
+        assertEquals(index, engine.indexOf(overshoot));
+
+        engine.cancel(view);
+        int reused = engine.indexOf(new OvershootInterpolator(1f));
+        assertEquals(index, reused);
+        // Released again when the engine is cleared
+        engine.animate(view, AnimationEngine.ALPHA, 0, 1, DURATION, 0, reused, null);
+    }
+}
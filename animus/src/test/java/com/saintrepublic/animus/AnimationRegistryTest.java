@@ -0,0 +1,106 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Transformation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Animations of specs, groups and prebuilt animations of a tracking instance are paused, resumed and cancelled
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AnimationRegistryTest {
+
+    private static final int DURATION = 300;
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final Animus.Instance instance = new Animus.Instance(false).setTracking(true);
+    private View specView;
+    private View groupView;
+    private View prebuiltView;
+
+    @Before
+    public void setUp() {
+        specView = new View(RuntimeEnvironment.application);
+        groupView = new View(RuntimeEnvironment.application);
+        prebuiltView = new View(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void specGroupAndPrebuiltAreTracked() {
+        AnimationSpec spec = instance.spec().alpha(0, 1).duration(DURATION).build();
+        AnimationComposite group = instance.parallel()
+                .add(instance.spec().alpha(0, 1).duration(DURATION).build())
+                .add(instance.spec().move(0, 1, 0, 1).duration(DURATION).build())
+                .build();
+
+        spec.applyTo(specView);
+        group.applyTo(groupView);
+        instance.prebuild(spec, DIRECT).startOn(prebuiltView);
+        Animation specAnimation = draw(specView);
+        Animation groupAnimation = draw(groupView);
+        Animation prebuiltAnimation = draw(prebuiltView);
+
+        instance.pauseAll();
+        assertTrue(instance.isPaused());
+        assertNull(specView.getAnimation());
+        assertNull(groupView.getAnimation());
+        assertNull(prebuiltView.getAnimation());
+
+        instance.resumeAll();
+        assertSame(specAnimation, specView.getAnimation());
+        assertSame(groupAnimation, groupView.getAnimation());
+        assertSame(prebuiltAnimation, prebuiltView.getAnimation());
+
+        instance.cancelAll();
+        assertNull(specView.getAnimation());
+        assertNull(groupView.getAnimation());
+        assertNull(prebuiltView.getAnimation());
+    }
+
+    /**
+     * Draw the first frame of the animation of the view
+     */
+    private static Animation draw(View view) {
+        Animation animation = view.getAnimation();
+        animation.initialize(100, 100, 100, 100);
+        animation.getTransformation(AnimationUtils.currentAnimationTimeMillis(), new Transformation());
+        return animation;
+    }
+}
@@ -0,0 +1,80 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Coalesced requests of pooled animations without fillAfter
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class CoalescePoolTest {
+
+    private static final int DURATION = 300;
+
+    private View view;
+
+    @Before
+    public void setUp() {
+        Animus.Pool.setEnabled(true);
+        view = new View(RuntimeEnvironment.application);
+        view.layout(0, 0, 100, 100);
+    }
+
+    @After
+    public void tearDown() {
+        view.clearAnimation();
+        Animus.Pool.setEnabled(false);
+    }
+
+    @Test
+    public void sampledRequestStaysOutOfPool() {
+        Animation first = Animus.Move.To.left(DURATION, false);
+        Animation second = Animus.Move.To.left(DURATION, false);
+        assertNotSame(first, second);
+
+        ViewState state = ViewState.of(view);
+        assertTrue(state.start(first, null, null, null, false, false, true, false));
+        first.initialize(100, 100, 100, 100);
+        first.setStartTime(0);
+        first.getTransformation(DURATION, new Transformation());
+        assertTrue(first.hasEnded());
+        assertEquals(1, AnimationPool.size());
+
+        // Same request after the end moves the view again, so it is started and must not be pooled
+        assertTrue(state.start(second, null, null, null, false, false, true, false));
+        assertSame(second, view.getAnimation());
+        assertEquals(1, AnimationPool.size());
+        assertNotSame(second, Animus.Move.To.left(DURATION, false));
+    }
+}
@@ -0,0 +1,119 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.support.v4.view.animation.FastOutSlowInInterpolator;
+import android.view.animation.AnticipateOvershootInterpolator;
+import android.view.animation.BounceInterpolator;
+import android.view.animation.Interpolator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Deviation of baked curves from the framework and support interpolators they replace
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class LookupTableInterpolatorTest {
+
+    // Points compared on the whole curve, far denser than the table
+    private static final int CHECKS = 100000;
+
+    private final Interpolator fastOutSlowIn = new FastOutSlowInInterpolator();
+    private final Interpolator bounce = new BounceInterpolator();
+    private final Interpolator anticipateOvershoot = new AnticipateOvershootInterpolator();
+
+    @Test
+    public void fastOutSlowInWithinBound() {
+        assertWithinBound(fastOutSlowIn, LookupTableInterpolator.DEFAULT_MAX_ERROR);
+        assertWithinBound(fastOutSlowIn, 0.0001f);
+    }
+
+    @Test
+    public void bounceWithinBound() {
+        // Bounces meet at sharp corners, tighter bounds reach the table cap
+        assertWithinBound(bounce, LookupTableInterpolator.DEFAULT_MAX_ERROR);
+    }
+
+    @Test
+    public void anticipateOvershootWithinBound() {
+        assertWithinBound(anticipateOvershoot, LookupTableInterpolator.DEFAULT_MAX_ERROR);
+        assertWithinBound(anticipateOvershoot, 0.0001f);
+    }
+
+    @Test
+    public void endsMatchOriginal() {
+        LookupTableInterpolator baked = new LookupTableInterpolator(bounce);
+        assertEquals(bounce.getInterpolation(0), baked.getInterpolation(0), 0);
+        assertEquals(bounce.getInterpolation(1), baked.getInterpolation(1), 0);
+        assertEquals(bounce.getInterpolation(0), baked.getInterpolation(-1), 0);
+        assertEquals(bounce.getInterpolation(1), baked.getInterpolation(2), 0);
+    }
+
+    @Test
+    public void unreachableBoundIsCapped() {
+        LookupTableInterpolator baked = new LookupTableInterpolator(bounce, 1e-9f);
+        assertEquals(LookupTableInterpolator.MAX_SAMPLES, baked.getSampleCount());
+        assertTrue(baked.getMaxError() > 1e-9f);
+
+        // Jump between samples is never approximated, doubling the table stops at the cap
+        Interpolator step = new Interpolator() {
+            @Override
+            public float getInterpolation(float input) {
+                return input < 0.3f ? 0 : 1;
+            }
+        };
+        baked = new LookupTableInterpolator(step);
+        assertEquals(LookupTableInterpolator.MAX_SAMPLES, baked.getSampleCount());
+    }
+
+    @Test
+    public void fixedSampleCount() {
+        LookupTableInterpolator baked = new LookupTableInterpolator(fastOutSlowIn, 64);
+        assertEquals(64, baked.getSampleCount());
+        assertEquals(1, baked.getInterpolation(1), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveBoundThrows() {
+        new LookupTableInterpolator(bounce, 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void singleSampleThrows() {
+        new LookupTableInterpolator(bounce, 1);
+    }
+
+    private static void assertWithinBound(Interpolator original, float maxError) {
+        LookupTableInterpolator baked = new LookupTableInterpolator(original, maxError);
+        assertTrue(baked.getSampleCount() < LookupTableInterpolator.MAX_SAMPLES);
+        assertTrue(baked.getMaxError() <= maxError);
+
+        float error = 0;
+        for (int i = 0; i <= CHECKS; i++) {
+            float input = (float) i / CHECKS;
+            error = Math.max(error, Math.abs(original.getInterpolation(input) - baked.getInterpolation(input)));
+        }
+        assertTrue("Error " + error + " exceeds " + maxError, error <= maxError);
+    }
+}
@@ -0,0 +1,161 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Transformation;
+import android.widget.FrameLayout;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Records of running animations are dropped when the animation leaves its view without end
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class MetricsRecorderTest {
+
+    private static final int DURATION = 300;
+
+    private final ArrayList<AnimationMetrics> reported = new ArrayList<>();
+    private final MetricsRecorder recorder = MetricsRecorder.getInstance();
+    private FrameLayout container;
+    private View view;
+
+    @Before
+    public void setUp() {
+        Animus.Metrics.setSink(new Animus.Metrics.Sink() {
+            @Override
+            public void onAnimationMetrics(AnimationMetrics metrics) {
+                reported.add(metrics);
+            }
+        });
+
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        container = new FrameLayout(activity);
+        view = new View(activity);
+        container.addView(view, 100, 100);
+        activity.setContentView(container);
+    }
+
+    @After
+    public void tearDown() {
+        view.clearAnimation();
+        recorder.doFrame(System.nanoTime());
+        Animus.Metrics.setSink(null);
+    }
+
+    @Test
+    public void replacedThroughAnimusIsDropped() {
+        Animation first = Animus.Move.move(0, 1, 0, 1, DURATION, false);
+        Animus.start(view, first);
+        draw(first);
+        assertEquals(1, recorder.getActiveCount());
+
+        Animus.start(view, Animus.Move.move(1, 0, 1, 0, DURATION, false));
+        assertEquals(0, recorder.getActiveCount());
+        assertEquals(0, reported.size());
+    }
+
+    @Test
+    public void replacedOnViewIsDroppedOnNextFrame() {
+        Animation first = Animus.Move.move(0, 1, 0, 1, DURATION, false);
+        Animus.start(view, first);
+        draw(first);
+
+        recorder.doFrame(System.nanoTime());
+        assertEquals(1, recorder.getActiveCount());
+
+        view.startAnimation(Animus.Move.move(1, 0, 1, 0, DURATION, false));
+        recorder.doFrame(System.nanoTime());
+        assertEquals(0, recorder.getActiveCount());
+    }
+
+    @Test
+    public void undrawnAnimationIsDroppedWhenOverdue() {
+        Animation animation = Animus.Move.move(0, 1, 0, 1, DURATION, false);
+        Animus.start(view, animation);
+        draw(animation);
+
+        // Nothing draws the removed view here, the animation gets neither frames nor end
+        container.removeView(view);
+        recorder.doFrame(System.nanoTime());
+        assertEquals(1, recorder.getActiveCount());
+
+        SystemClock.setCurrentTimeMillis(SystemClock.uptimeMillis() + DURATION + 2000);
+        recorder.doFrame(System.nanoTime());
+        assertEquals(0, recorder.getActiveCount());
+        assertEquals(0, reported.size());
+    }
+
+    @Test
+    public void loopingAnimationOfDetachedViewIsDropped() {
+        Animation animation = Animus.Move.move(0, 1, 0, 1, DURATION, false);
+        animation.setRepeatCount(Animation.INFINITE);
+        Animus.start(view, animation);
+        draw(animation);
+
+        // Attached view may be hidden for a while and drawn again
+        SystemClock.setCurrentTimeMillis(SystemClock.uptimeMillis() + DURATION + 2000);
+        recorder.doFrame(System.nanoTime());
+        assertEquals(1, recorder.getActiveCount());
+        draw(animation);
+
+        container.removeView(view);
+        recorder.doFrame(System.nanoTime());
+        assertEquals(1, recorder.getActiveCount());
+
+        // Detached view that is not drawn misses the repeat of its animation
+        SystemClock.setCurrentTimeMillis(SystemClock.uptimeMillis() + DURATION + 2000);
+        recorder.doFrame(System.nanoTime());
+        assertEquals(0, recorder.getActiveCount());
+        assertEquals(0, reported.size());
+    }
+
+    @Test
+    public void endedAnimationIsReported() {
+        Animation animation = Animus.Move.move(0, 1, 0, 1, DURATION, false);
+        Animus.start(view, animation);
+        draw(animation);
+
+        animation.getTransformation(animation.getStartTime() + DURATION, new Transformation());
+        assertEquals(0, recorder.getActiveCount());
+        assertEquals(1, reported.size());
+    }
+
+    /**
+     * Draw the first frame of the animation, as the view would
+     */
+    private void draw(Animation animation) {
+        animation.initialize(100, 100, 100, 100);
+        animation.getTransformation(AnimationUtils.currentAnimationTimeMillis(), new Transformation());
+    }
+}
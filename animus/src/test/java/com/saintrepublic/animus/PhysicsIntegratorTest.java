@@ -0,0 +1,189 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Settling, retargeting and frame limits of spring and fling integrators
+ */
+public class PhysicsIntegratorTest {
+
+    private static final long FRAME_NANOS = 16666667;
+    // Upper bound of frames in a test, motions here settle in a few seconds
+    private static final int MAX_FRAMES = 1000;
+
+    private static final float THRESHOLD = 0.5f;
+
+    @Test
+    public void springSettlesOnTarget() {
+        SpringIntegrator spring = spring(0, 100, 300, 0.5f);
+
+        assertTrue(run(spring) < MAX_FRAMES);
+        assertEquals(100, spring.getValue(), 0);
+        assertEquals(0, spring.getVelocity(), 0);
+    }
+
+    @Test
+    public void springSettlesWithinThreshold() {
+        SpringIntegrator spring = spring(100 - THRESHOLD * 0.8f, 100, 300, 1);
+        assertFalse(spring.advance(PhysicsIntegrator.STEP_NANOS));
+        assertEquals(100, spring.getValue(), 0);
+
+        spring = spring(100 - THRESHOLD * 1.2f, 100, 300, 1);
+        assertTrue(spring.advance(PhysicsIntegrator.STEP_NANOS));
+    }
+
+    @Test
+    public void springRetargetKeepsValueAndVelocity() {
+        SpringIntegrator spring = spring(0, 100, 200, 0.7f);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(spring.advance(FRAME_NANOS));
+        }
+        float value = spring.getValue();
+        float velocity = spring.getVelocity();
+        assertTrue(velocity > 0);
+
+        spring.setTarget(-50);
+        assertEquals(value, spring.getValue(), 0);
+        assertEquals(velocity, spring.getVelocity(), 0);
+
+        // Motion continues in its direction for the next step, then turns to the new target
+        assertTrue(spring.advance(PhysicsIntegrator.STEP_NANOS));
+        assertTrue(spring.getValue() > value);
+        assertTrue(run(spring) < MAX_FRAMES);
+        assertEquals(-50, spring.getValue(), 0);
+    }
+
+    @Test
+    public void springInvalidParametersKeepPrevious() {
+        SpringIntegrator reference = spring(0, 100, 300, 1);
+        SpringIntegrator spring = spring(0, 100, 300, 1);
+        try {
+            spring.setParameters(-1, 1);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+        try {
+            spring.setParameters(300, -1);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        reference.advance(FRAME_NANOS);
+        spring.advance(FRAME_NANOS);
+        assertEquals(reference.getValue(), spring.getValue(), 0);
+    }
+
+    @Test
+    public void flingSettlesBelowVelocityThreshold() {
+        FlingIntegrator fling = fling(0, 100, 4, -Float.MAX_VALUE, Float.MAX_VALUE);
+
+        assertTrue(run(fling) < MAX_FRAMES);
+        assertEquals(0, fling.getVelocity(), 0);
+        // Exponential decay travels v0 / friction * (1 - v / v0) until the velocity falls to v
+        float velocityThreshold = THRESHOLD * 60;
+        assertEquals(100f / 4 * (1 - velocityThreshold / 100), fling.getValue(), 1);
+    }
+
+    @Test
+    public void flingStopsAtBound() {
+        FlingIntegrator fling = fling(0, 1000, 1, -10, 50);
+
+        assertTrue(run(fling) < MAX_FRAMES);
+        assertEquals(50, fling.getValue(), 0);
+        assertEquals(0, fling.getVelocity(), 0);
+    }
+
+    @Test
+    public void flingRetargetKeepsValue() {
+        FlingIntegrator fling = fling(0, 500, 2, -Float.MAX_VALUE, Float.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(fling.advance(FRAME_NANOS));
+        }
+        float value = fling.getValue();
+
+        fling.set(fling.getValue(), -500);
+        assertEquals(value, fling.getValue(), 0);
+        assertTrue(fling.advance(FRAME_NANOS));
+        assertTrue(fling.getValue() < value);
+    }
+
+    @Test
+    public void longFrameIsCut() {
+        FlingIntegrator stalled = fling(0, 1000, 0.1f, -Float.MAX_VALUE, Float.MAX_VALUE);
+        FlingIntegrator capped = fling(0, 1000, 0.1f, -Float.MAX_VALUE, Float.MAX_VALUE);
+
+        assertTrue(stalled.advance(1000000000));
+        assertTrue(capped.advance(PhysicsIntegrator.MAX_FRAME_NANOS));
+        assertEquals(capped.getValue(), stalled.getValue(), 0);
+        // One second would move the value by about 950
+        assertTrue(stalled.getValue() < 1000 * 0.1f + 1);
+    }
+
+    @Test
+    public void invalidParametersDontStartMotion() {
+        PhysicsAnimator animator = PhysicsAnimator.getInstance();
+        int active = animator.getActiveCount();
+        try {
+            animator.spring(null, AnimationEngine.TRANSLATION_X, 100, 0, 1);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+        try {
+            animator.fling(null, AnimationEngine.TRANSLATION_X, 100, 1, 10, 0);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+        assertEquals(active, animator.getActiveCount());
+    }
+
+    private static SpringIntegrator spring(float value, float target, float stiffness, float dampingRatio) {
+        SpringIntegrator spring = new SpringIntegrator();
+        spring.setThreshold(THRESHOLD);
+        spring.setParameters(stiffness, dampingRatio);
+        spring.set(value, 0);
+        spring.setTarget(target);
+        return spring;
+    }
+
+    private static FlingIntegrator fling(float value, float velocity, float friction, float min, float max) {
+        FlingIntegrator fling = new FlingIntegrator();
+        fling.setThreshold(THRESHOLD);
+        fling.setParameters(friction, min, max);
+        fling.set(value, velocity);
+        return fling;
+    }
+
+    /**
+     * Advance frames until the motion settles
+     *
+     * @return Number of frames
+     */
+    private static int run(PhysicsIntegrator integrator) {
+        int frames = 0;
+        while (frames < MAX_FRAMES && integrator.advance(FRAME_NANOS)) {
+            frames++;
+        }
+        return frames;
+    }
+}
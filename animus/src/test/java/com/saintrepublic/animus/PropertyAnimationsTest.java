@@ -0,0 +1,71 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * ViewProperty animations without fillAfter put the view back to its values before the animation
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class PropertyAnimationsTest {
+
+    private static final int DURATION = 300;
+
+    private View view;
+
+    @Before
+    public void setUp() {
+        view = new View(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void interruptedAnimationRestoresValues() {
+        view.setTranslationX(10);
+        PropertyAnimations.translate(view, 50, 100, 0, 0, DURATION, false, null);
+        assertEquals(50, view.getTranslationX(), 0);
+
+        // Interrupted show starts from the values before the move
+        Animus.ViewProperty.Alpha.show(view, DURATION, false);
+        assertEquals(10, view.getTranslationX(), 0);
+        assertEquals(0, view.getAlpha(), 0);
+
+        Animus.ViewProperty.Alpha.alpha(view, 0.5f, 1, DURATION, true);
+        assertEquals(1, view.getAlpha(), 0);
+        assertNull(ViewState.of(view).getPropertyRestore());
+    }
+
+    @Test
+    public void endRestoresValuesBeforeAnimation() {
+        Animus.ViewProperty.Alpha.show(view, DURATION, false);
+        assertEquals(0, view.getAlpha(), 0);
+
+        ViewState.of(view).getPropertyRestore().run();
+        assertEquals(1, view.getAlpha(), 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.saintrepublic.animus;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.app.Activity;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+import android.widget.FrameLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Completion of a staggered batch with ended, replaced and undrawn items
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class StaggeredBatchTest {
+
+    private static final int DURATION = 300;
+
+    private final Animus.Instance instance = new Animus.Instance(false);
+    private final int[] completed = new int[1];
+    private View first;
+    private View second;
+    private View detached;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        FrameLayout container = new FrameLayout(activity);
+        first = new View(activity);
+        second = new View(activity);
+        detached = new View(activity);
+        container.addView(first, 100, 100);
+        container.addView(second, 100, 100);
+        activity.setContentView(container);
+    }
+
+    @Test
+    public void completesOnceAfterEveryItem() {
+        StaggeredBatch batch = batch(first, second, detached);
+        batch.doFrame(0);
+
+        // Replaced item reports its end right away
+        instance.start(first, instance.hide(DURATION, false));
+        assertEquals(0, completed[0]);
+
+        Animation animation = second.getAnimation();
+        animation.initialize(100, 100, 100, 100);
+        animation.setStartTime(0);
+        animation.getTransformation(animation.getStartOffset() + DURATION, new Transformation());
+        assertEquals(0, completed[0]);
+
+        // Item of the detached view is never drawn, the check after the expected end counts it
+        batch.doFrame(0);
+        assertEquals(1, completed[0]);
+
+        instance.start(detached, instance.hide(DURATION, false));
+        assertEquals(1, completed[0]);
+    }
+
+    @Test
+    public void coalescedItemsComplete() {
+        instance.setCommonCoalesce(true);
+        Animation running = instance.toLeft(DURATION, false);
+        instance.start(first, running);
+
+        batch(first).doFrame(0);
+        assertEquals(1, completed[0]);
+    }
+
+    private StaggeredBatch batch(View... views) {
+        return new StaggeredBatch(instance, Arrays.asList(views), new Animus.Factory() {
+            @Override
+            public Animation create(int duration, boolean fillAfter) {
+                return instance.toLeft(duration, fillAfter);
+            }
+        }, DURATION, false, 50, new Runnable() {
+            @Override
+            public void run() {
+                completed[0]++;
+            }
+        });
+    }
+}
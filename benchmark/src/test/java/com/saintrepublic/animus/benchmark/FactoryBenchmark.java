@@ -0,0 +1,185 @@
+package com.saintrepublic.animus.benchmark;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import android.view.animation.Animation;
+import android.view.animation.Interpolator;
+import android.view.animation.Transformation;
+
+import com.saintrepublic.animus.Animus;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Cost of every public factory of Animus and Animus.Instance
+ * and of a frame of animation with every interpolator type.
+ * Run with ./gradlew :benchmark:testDebugUnitTest and compare the printed numbers between changes.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FactoryBenchmark {
+
+    private static final int DURATION = 300;
+
+    // Classes holding static factories
+    private static final Class<?>[] STATIC_FACTORIES = {
+            Animus.Move.To.class, Animus.Move.To.Parent.class,
+            Animus.Move.From.class, Animus.Move.From.Parent.class,
+            Animus.Move.class, Animus.Alpha.class, Animus.Scale.class, Animus.Rotate.class
+    };
+
+    private static final String[] INTERPOLATION_NAMES = {
+            "ACCELERATE", "DECELERATE", "ACCELERATE_DECELERATE", "ANTICIPATE", "OVERSHOOT",
+            "ANTICIPATE_OVERSHOOT", "BOUNCE", "CYCLE", "LINEAR", "FASTOUT_LINEARIN",
+            "FASTOUT_SLOWIN", "LINEAROUT_SLOWIN"
+    };
+
+    @After
+    public void tearDown() {
+        Animus.Pool.setEnabled(false);
+    }
+
+    @Test
+    public void staticFactories() throws Exception {
+        System.out.println("Static factories");
+        for (Class<?> factories : STATIC_FACTORIES) {
+            for (Method method : factories.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) && isFactory(method)) {
+                    measureFactory(factories.getSimpleName() + "." + method.getName(), null, method);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void instanceFactories() throws Exception {
+        System.out.println("Instance factories");
+        Animus.Instance animus = new Animus.Instance(false);
+        for (Method method : Animus.Instance.class.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && isFactory(method)) {
+                measureFactory("Instance." + method.getName(), animus, method);
+            }
+        }
+    }
+
+    @Test
+    public void pooledFactories() throws Exception {
+        System.out.println("Pooled static factories, steady state should allocate nothing");
+        Animus.Pool.setEnabled(true);
+        for (Class<?> factories : STATIC_FACTORIES) {
+            for (final Method method : factories.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) && isFactory(method)) {
+                    final Object[] arguments = arguments(method);
+                    Measure.run("pooled " + factories.getSimpleName() + "." + method.getName(), new Measure.Operation() {
+                        @Override
+                        public Object run(int iteration) throws Exception {
+                            Animation animation = (Animation) method.invoke(null, arguments);
+                            Animus.Pool.recycle(animation);
+                            return animation;
+                        }
+                    });
+                }
+            }
+        }
+        System.out.println("Pool hits " + Animus.Pool.getHits() + ", misses " + Animus.Pool.getMisses());
+    }
+
+    @Test
+    public void transformationPerInterpolator() throws Exception {
+        System.out.println("getTransformation per interpolator");
+        for (int type = 0; type < INTERPOLATION_NAMES.length; type++) {
+            measureTransformation(INTERPOLATION_NAMES[type], Animus.getInterpolator(type));
+            measureTransformation(INTERPOLATION_NAMES[type] + " baked", Animus.Interpolation.baked(type));
+        }
+    }
+
+    private void measureFactory(String name, final Object target, final Method method) throws Exception {
+        final Object[] arguments = arguments(method);
+        Measure.run(name, new Measure.Operation() {
+            @Override
+            public Object run(int iteration) throws Exception {
+                return method.invoke(target, arguments);
+            }
+        });
+    }
+
+    private void measureTransformation(String name, Interpolator interpolator) throws Exception {
+        final Animation animation = Animus.Move.move(0.0f, 1.0f, 0.0f, 1.0f, DURATION, true);
+        animation.setInterpolator(interpolator);
+        animation.initialize(100, 100, 1000, 1000);
+        animation.setStartTime(0);
+        final Transformation transformation = new Transformation();
+
+        Measure.run(name, new Measure.Operation() {
+            @Override
+            public Object run(int iteration) {
+                animation.getTransformation(iteration % DURATION, transformation);
+                return transformation;
+            }
+        });
+    }
+
+    /**
+     * Public method returning Animation from primitive parameters only
+     */
+    private static boolean isFactory(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || method.getReturnType() != Animation.class) {
+            return false;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (type != float.class && type != int.class && type != boolean.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Arguments for a factory: floats are 0.5, ints are Animation.RELATIVE_TO_SELF
+     * except the last one which is the duration, booleans are true
+     */
+    private static Object[] arguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        int lastInt = -1;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == int.class) {
+                lastInt = i;
+            }
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == float.class) {
+                arguments[i] = 0.5f;
+            }
+            else if (types[i] == int.class) {
+                arguments[i] = i == lastInt ? DURATION : Animation.RELATIVE_TO_SELF;
+            }
+            else if (types[i] == boolean.class) {
+                arguments[i] = true;
+            }
+        }
+        return arguments;
+    }
+}
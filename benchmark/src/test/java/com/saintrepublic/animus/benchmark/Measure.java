@@ -0,0 +1,76 @@
+package com.saintrepublic.animus.benchmark;
+
+/*
+ * Copyright 2019 SaintRepublic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Minimal JVM micro benchmark harness measuring time and allocated bytes per operation
+ */
+final class Measure {
+
+    static final int WARMUP = 20000;
+    static final int ITERATIONS = 100000;
+
+    /**
+     * Measured operation
+     */
+    interface Operation {
+        Object run(int iteration) throws Exception;
+    }
+
+    // Keeps results reachable so the JIT can not drop the measured work
+    static volatile Object blackhole;
+
+    private Measure() {}
+
+    /**
+     * Run the operation and print nanoseconds and bytes per call
+     *
+     * @param name Printed name of the operation
+     * @param operation Measured operation
+     */
+    static void run(String name, Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole = operation.run(i);
+        }
+
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole = operation.run(i);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        System.out.println(String.format(Locale.US, "%-48s %10.1f ns/op %10.1f B/op",
+                name, (double) nanos / ITERATIONS, bytesBefore < 0 ? -1.0 : (double) bytes / ITERATIONS));
+    }
+
+    /**
+     * Returns bytes allocated by the current thread or -1 if the JVM can not tell
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
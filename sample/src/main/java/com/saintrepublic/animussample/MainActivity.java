@@ -29,6 +29,8 @@ public class MainActivity extends AppCompatActivity {
 
         // Set default animation interpolator for all animations
         Animus.setCommonInterpolator(Animus.Interpolation.LINEAR);
+        // Animations started via Animus.start continue from where the view is
+        Animus.setCommonRetarget(true);
     }
 
 
@@ -36,12 +38,12 @@ public class MainActivity extends AppCompatActivity {
         if (((Button) topButton).getText().toString().equals("toTop")) {
             ((Button) topButton).setText("fromTop");
 
-            tester.startAnimation(Animus.Move.To.top(500, true));
+            Animus.start(tester, Animus.Move.To.top(500, true));
         }
         else {
             ((Button) topButton).setText("toTop");
 
-            tester.startAnimation(Animus.Move.From.top(500, true));
+            Animus.start(tester, Animus.Move.From.top(500, true));
         }
     }
 